@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import cloud.elit.ddr.constituency.CTReader;
+import cloud.elit.ddr.constituency.CTTree;
+
+/**
+ * Benchmarks {@link CTReader#next()}, including the English preprocessing.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class CTReaderBenchmark extends TreeCorpus {
+    @Benchmark
+    public void next(Blackhole blackhole) {
+        CTReader reader = createReader();
+        CTTree tree;
+
+        while ((tree = reader.next()) != null)
+            blackhole.consume(tree);
+
+        reader.close();
+    }
+}
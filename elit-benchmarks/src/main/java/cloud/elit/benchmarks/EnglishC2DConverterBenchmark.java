@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.conversion.EnglishC2DConverter;
+
+/**
+ * Benchmarks {@link EnglishC2DConverter#toDependencyGraph(CTTree)}.
+ * The trees are modified by the conversion so they are read again before every invocation.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class EnglishC2DConverterBenchmark extends TreeCorpus {
+    static private final EnglishC2DConverter CONVERTER = new EnglishC2DConverter();
+    private List<CTTree> trees;
+
+    @Setup(Level.Invocation)
+    public void setupTrees() {
+        trees = readTrees(true);
+    }
+
+    @Benchmark
+    public void toDependencyGraph(Blackhole blackhole) {
+        for (CTTree tree : trees)
+            blackhole.consume(CONVERTER.toDependencyGraph(tree));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Element;
+import cloud.elit.ddr.lemmatize.english.EnglishAffixMatcherFactory;
+import cloud.elit.ddr.lemmatize.english.EnglishInflection;
+import cloud.elit.ddr.lemmatize.english.EnglishLemmatizer;
+import cloud.elit.ddr.lemmatize.util.AbstractAffixMatcher;
+import cloud.elit.ddr.util.DSUtils;
+import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.ddr.util.XMLUtils;
+
+/**
+ * Benchmarks {@link EnglishInflection#getBaseFormFromSuffixes(String, String)} against trying every suffix matcher in order
+ * on inflected forms generated from the verb base list.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+@State(Scope.Benchmark)
+public class EnglishInflectionBenchmark {
+    static private final String[] SUFFIXES = {"s", "es", "ies", "ed", "ied", "d", "n", "ing", "ying", "ung", "ly", "ness"};
+    static private final String[] TAGS = {"VBZ", "VBG", "VBD", "VBN", "VB"};
+
+    /**
+     * {@code "linear"} tries every suffix matcher in order; {@code "trie"} uses {@link EnglishInflection}.
+     */
+    @Param({"linear", "trie"})
+    public String method;
+    @Param("100000")
+    public int tokens;
+
+    private List<AbstractAffixMatcher> matchers;
+    private EnglishInflection inflection;
+    private Set<String> base_set;
+    private String[] forms;
+    private String[] tags;
+
+    @Setup
+    public void setup() {
+        Element eInflection = XMLUtils.getDocumentElement(IOUtils.getInputStreamsFromResource(EnglishLemmatizer.ROOT + "inflection_suffix.xml"));
+        matchers = new EnglishAffixMatcherFactory().createAffixMatchers(XMLUtils.getFirstElementByTagName(eInflection, "verb"));
+        base_set = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(EnglishLemmatizer.ROOT + "verb.base"));
+        inflection = new EnglishInflection("VB", base_set, null, matchers);
+
+        List<String> bases = new ArrayList<>(base_set);
+        Random random = new Random(0);
+        forms = new String[tokens];
+        tags = new String[tokens];
+
+        for (int i = 0; i < tokens; i++) {
+            forms[i] = bases.get(random.nextInt(bases.size())) + SUFFIXES[random.nextInt(SUFFIXES.length)];
+            tags[i] = TAGS[random.nextInt(TAGS.length)];
+        }
+    }
+
+    @Benchmark
+    public void getBaseFormFromSuffixes(Blackhole blackhole) {
+        if (method.equals("trie")) {
+            for (int i = 0; i < forms.length; i++)
+                blackhole.consume(inflection.getBaseFormFromSuffixes(forms[i], tags[i]));
+        } else {
+            for (int i = 0; i < forms.length; i++)
+                blackhole.consume(getBaseFormLinear(forms[i], tags[i]));
+        }
+    }
+
+    private String getBaseFormLinear(String form, String pos) {
+        String base;
+
+        for (AbstractAffixMatcher matcher : matchers) {
+            base = matcher.getBaseForm(base_set, form, pos);
+            if (base != null) return base;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import cloud.elit.ddr.constituency.CTNode;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.lemmatize.LemmaCache;
+import cloud.elit.ddr.lemmatize.english.EnglishLemmatizer;
+
+/**
+ * Benchmarks {@link EnglishLemmatizer#getLemma(String, String)} on the tokens in the corpus, with or without {@link LemmaCache}.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class EnglishLemmatizerBenchmark extends TreeCorpus {
+    static private final EnglishLemmatizer LEMMATIZER = new EnglishLemmatizer();
+
+    /**
+     * The capacity of the lemma cache; {@code 0} disables the cache.
+     */
+    @Param({"0", "100000"})
+    public int cache_capacity;
+
+    private String[] forms;
+    private String[] tags;
+
+    @Setup
+    public void setupTokens() {
+        LEMMATIZER.setCache(cache_capacity > 0 ? new LemmaCache(cache_capacity) : null);
+        List<CTNode> tokens = new ArrayList<>();
+
+        for (CTTree tree : readTrees(true))
+            tokens.addAll(tree.getTokens());
+
+        forms = new String[tokens.size()];
+        tags = new String[tokens.size()];
+
+        for (int i = 0; i < tokens.size(); i++) {
+            forms[i] = tokens.get(i).getForm();
+            tags[i] = tokens.get(i).getSyntacticTag();
+        }
+    }
+
+    @Benchmark
+    public void getLemma(Blackhole blackhole) {
+        for (int i = 0; i < forms.length; i++)
+            blackhole.consume(LEMMATIZER.getLemma(forms[i], tags[i]));
+    }
+}
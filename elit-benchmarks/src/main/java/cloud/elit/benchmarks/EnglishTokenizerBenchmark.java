@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import cloud.elit.ddr.constituency.CTNode;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.nlp.component.tokenizer.EnglishTokenizer;
+import cloud.elit.sdk.structure.Document;
+
+/**
+ * Benchmarks {@link EnglishTokenizer#decode(String)} on the raw text of the corpus, where the word-forms of all trees are detokenized:
+ * no space is inserted before punctuation and contractions ({@code , . n't 's}) or after opening brackets and quotes,
+ * and bracket and quote tags ({@code -LRB- `` ''}) are replaced by their characters.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class EnglishTokenizerBenchmark extends TreeCorpus {
+    static private final EnglishTokenizer TOKENIZER = new EnglishTokenizer();
+    static private final Set<String> NO_SPACE_BEFORE = new HashSet<>(Arrays.asList(".", ",", ";", ":", "?", "!", "%", "...", ")", "]", "}", "''", "-RRB-", "-RSB-", "-RCB-"));
+    static private final Set<String> NO_SPACE_AFTER = new HashSet<>(Arrays.asList("$", "#", "(", "[", "{", "``", "-LRB-", "-LSB-", "-LCB-"));
+    private String raw;
+
+    @Setup
+    public void setupText() {
+        StringBuilder build = new StringBuilder();
+        boolean space = false;
+
+        for (CTTree tree : readTrees(true)) {
+            for (CTNode node : tree.getTokens()) {
+                String form = node.getForm();
+
+                if (space && !NO_SPACE_BEFORE.contains(form) && !isContraction(form)) build.append(' ');
+                build.append(toRaw(form));
+                space = !NO_SPACE_AFTER.contains(form);
+            }
+        }
+
+        raw = build.toString();
+    }
+
+    /**
+     * @return {@code true} if the form is split from its previous word ({@code n't, 's, 'll}).
+     */
+    private boolean isContraction(String form) {
+        return form.equalsIgnoreCase("n't") || (form.length() > 1 && form.charAt(0) == '\'' && Character.isLetter(form.charAt(1)));
+    }
+
+    private String toRaw(String form) {
+        switch (form) {
+            case "-LRB-": return "(";
+            case "-RRB-": return ")";
+            case "-LSB-": return "[";
+            case "-RSB-": return "]";
+            case "-LCB-": return "{";
+            case "-RCB-": return "}";
+            case "``":
+            case "''": return "\"";
+            default: return form;
+        }
+    }
+
+    @Benchmark
+    public Document decode() {
+        return TOKENIZER.decode(raw);
+    }
+}
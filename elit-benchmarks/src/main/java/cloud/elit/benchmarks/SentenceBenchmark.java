@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.conversion.EnglishC2DConverter;
+import cloud.elit.sdk.structure.Sentence;
+
+/**
+ * Benchmarks {@link Sentence#toTSV()} on the dependency graphs converted from the corpus.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class SentenceBenchmark extends TreeCorpus {
+    private List<Sentence> graphs;
+
+    @Setup
+    public void setupGraphs() {
+        EnglishC2DConverter converter = new EnglishC2DConverter();
+        graphs = new ArrayList<>();
+
+        for (CTTree tree : readTrees(true)) {
+            Sentence graph = converter.toDependencyGraph(tree);
+            if (graph != null) graphs.add(graph);
+        }
+    }
+
+    @Benchmark
+    public void toTSV(Blackhole blackhole) {
+        for (Sentence graph : graphs)
+            blackhole.consume(graph.toTSV());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates Penn Treebank style constituent trees with a specific number of tokens.
+ * Object noun phrases are recursively expanded with prepositional phrases, relative clauses (including traces),
+ * and coordination so that longer sentences also get deeper trees.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class SyntheticTreeGenerator {
+    static private final String[] DETERMINERS = {"the", "a", "this", "every"};
+    static private final String[] ADJECTIVES = {"big", "new", "old", "small", "good"};
+    static private final String[] NOUNS = {"dog", "company", "report", "market", "city", "student", "price", "government", "house", "question"};
+    static private final String[] VERBS = {"saw", "bought", "wrote", "found", "made", "took", "gave", "liked"};
+    static private final String[] PREPOSITIONS = {"of", "in", "with", "for", "on"};
+
+    private final Random random;
+    private int co_index;
+
+    /**
+     * @param seed the same seed always generates the same trees.
+     */
+    public SyntheticTreeGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * @param length the number of tokens in the tree; must be greater than or equal to {@code 5}.
+     * @return the tree in the bracket format.
+     */
+    public String generate(int length) {
+        if (length < 5) throw new IllegalArgumentException("The length must be at least 5: " + length);
+        StringBuilder build = new StringBuilder();
+        co_index = 0;
+
+        build.append("(TOP (S (NP-SBJ ");
+        appendNoun(build);
+        build.append(") (VP ");
+        appendTerminal(build, "VBD", VERBS);
+        build.append(' ');
+        appendNP(build, length - 4);
+        build.append(") (. .)))");
+        return build.toString();
+    }
+
+    /**
+     * Appends a noun phrase consisting of exactly {@code budget} tokens.
+     */
+    private void appendNP(StringBuilder build, int budget) {
+        build.append("(NP ");
+
+        if (budget == 1)
+            build.append("(PRP it)");
+        else if (budget == 2)
+            appendNoun(build);
+        else if (budget == 3) {
+            appendTerminal(build, "DT", DETERMINERS);
+            build.append(' ');
+            appendTerminal(build, "JJ", ADJECTIVES);
+            build.append(' ');
+            appendTerminal(build, "NN", NOUNS);
+        } else {
+            build.append("(NP ");
+            appendNoun(build);
+            build.append(") ");
+
+            switch (random.nextInt(budget < 5 ? 2 : 3)) {
+                case 0:
+                    build.append("(PP ");
+                    appendTerminal(build, "IN", PREPOSITIONS);
+                    build.append(' ');
+                    appendNP(build, budget - 3);
+                    build.append(')');
+                    break;
+                case 1:
+                    build.append("(CC and) ");
+                    appendNP(build, budget - 3);
+                    break;
+                default:
+                    int index = ++co_index;
+                    build.append("(SBAR (WHNP-").append(index).append(" (WDT which)) (S (NP-SBJ (-NONE- *T*-").append(index).append(")) (VP ");
+                    appendTerminal(build, "VBD", VERBS);
+                    build.append(' ');
+                    appendNP(build, budget - 4);
+                    build.append(")))");
+            }
+        }
+
+        build.append(')');
+    }
+
+    private void appendNoun(StringBuilder build) {
+        appendTerminal(build, "DT", DETERMINERS);
+        build.append(' ');
+        appendTerminal(build, "NN", NOUNS);
+    }
+
+    private void appendTerminal(StringBuilder build, String pos, String[] forms) {
+        build.append('(').append(pos).append(' ').append(forms[random.nextInt(forms.length)]).append(')');
+    }
+}
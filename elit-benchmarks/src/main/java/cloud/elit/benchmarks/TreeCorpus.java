@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import cloud.elit.ddr.constituency.CTReader;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.util.IOUtils;
+
+/**
+ * Bracketed trees shared by the benchmarks, either the test trees bundled with {@code elit-ddr}
+ * or trees generated by {@link SyntheticTreeGenerator} with a specific number of tokens.
+ * One benchmark operation processes the whole corpus.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+@State(Scope.Benchmark)
+public class TreeCorpus {
+    static public final String BUNDLED = "bundled";
+    static private final String ROOT = "benchmarks/trees/";
+    static private final String[] BUNDLED_FILES = {
+            "acl", "adv", "advcl", "advnp", "appo", "attr", "aux", "case", "cc", "com", "comp", "conj", "cop", "csbj", "dat",
+            "det", "disc", "expl", "lv", "mark", "meta", "modal", "neg", "nsbj", "num", "obj", "poss", "ppmod", "prn", "prt",
+            "raise", "ref", "relcl", "voc"};
+
+    /**
+     * {@link #BUNDLED} or the number of tokens in each synthetic tree.
+     */
+    @Param({BUNDLED, "10", "25", "50", "100"})
+    public String source;
+    /**
+     * The number of synthetic trees.
+     */
+    @Param("500")
+    public int synthetic_trees;
+
+    /**
+     * The corpus in the bracket format.
+     */
+    protected byte[] text;
+
+    @Setup
+    public void setupCorpus() {
+        text = BUNDLED.equals(source) ? readBundled() : generate(Integer.parseInt(source), synthetic_trees);
+    }
+
+    private byte[] readBundled() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int len;
+
+        try {
+            for (String filename : BUNDLED_FILES) {
+                try (InputStream in = IOUtils.getInputStreamsFromResource(ROOT + filename + ".parse")) {
+                    while ((len = in.read(buffer)) >= 0) out.write(buffer, 0, len);
+                }
+
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return out.toByteArray();
+    }
+
+    private byte[] generate(int length, int size) {
+        SyntheticTreeGenerator generator = new SyntheticTreeGenerator(0);
+        StringBuilder build = new StringBuilder();
+
+        for (int i = 0; i < size; i++)
+            build.append(generator.generate(length)).append("\n\n");
+
+        return build.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the reader over {@link #text} with the English preprocessing (see {@link CTReader#next()}).
+     */
+    public CTReader createReader() {
+        return new CTReader(new ByteArrayInputStream(text));
+    }
+
+    /**
+     * @param preprocess if {@code false}, the trees are read without any language-specific preprocessing.
+     */
+    public List<CTTree> readTrees(boolean preprocess) {
+        CTReader reader = createReader();
+        if (!preprocess) reader.setLanguage(null);
+        List<CTTree> trees = reader.readTrees();
+        reader.close();
+        return trees;
+    }
+}
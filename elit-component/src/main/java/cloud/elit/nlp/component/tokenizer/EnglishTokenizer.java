@@ -0,0 +1,514 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.nlp.component.tokenizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import cloud.elit.ddr.dictionary.Abbreviation;
+import cloud.elit.ddr.dictionary.Compound;
+import cloud.elit.ddr.dictionary.Currency;
+import cloud.elit.ddr.dictionary.Dictionary;
+import cloud.elit.ddr.dictionary.Emoticon;
+import cloud.elit.ddr.dictionary.EnglishApostrophe;
+import cloud.elit.ddr.dictionary.EnglishHyphen;
+import cloud.elit.ddr.dictionary.Html;
+import cloud.elit.ddr.dictionary.Unit;
+import cloud.elit.ddr.util.CharUtils;
+import cloud.elit.ddr.util.DSUtils;
+import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.ddr.util.Language;
+import cloud.elit.ddr.util.MetaUtils;
+import cloud.elit.ddr.util.StringUtils;
+import cloud.elit.sdk.component.EmptyParameters;
+import cloud.elit.sdk.component.Tokenizer;
+import cloud.elit.sdk.structure.Document;
+import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.node.NLPNode;
+
+/**
+ * Rule-based English tokenizer using the dictionaries in {@link cloud.elit.ddr.dictionary}.
+ * The input is scanned once, where each whitespace-delimited chunk is split into tokens as follows:
+ * <ul>
+ * <li>Hyperlinks, e-mail addresses, and emoticons are kept as single tokens.</li>
+ * <li>Words may contain periods between digits or short letter runs ({@code 3.14, U.S.}), commas, colons, and slashes between digits
+ * ({@code 1,000, 12:30, 1/2}), dollar signs between letters and digits ({@code US$20}), hyphens ({@code state-of-the-art}), and apostrophes ({@code rock'n'roll}).</li>
+ * <li>A period following an abbreviation ({@link Abbreviation}), an initial, or a word with inner periods is attached to the word.</li>
+ * <li>Words are split by {@link Compound}, {@link EnglishApostrophe}, {@link Currency}, and {@link Unit} ({@code cannot, don't, US$, 5kg}).</li>
+ * <li>Hyphens preserved by {@link EnglishHyphen} are attached to their words ({@code pre-, -able}).</li>
+ * <li>HTML entities are replaced by their characters ({@link Html}).</li>
+ * <li>Runs of the same symbol and runs of final marks are single tokens ({@code --, ?!, ...}).</li>
+ * </ul>
+ * Every token keeps its character offsets in the input ({@link NLPNode#getBeginOffset()}, {@link NLPNode#getEndOffset()}).
+ * Sentences end at final marks, followed by adjacent closing quotes or brackets, and at blank lines;
+ * an ellipsis or an abbreviation ends a sentence only when it is followed by a capitalized word
+ * (an ellipsis) or a capitalized function word in {@code non-capitals.txt} (an abbreviation).
+ * This class is thread-safe. The throughput depends on the text: about 20MB per second on a single core after warm-up
+ * for the detokenized trees in {@code EnglishTokenizerBenchmark} ({@code elit-benchmarks}), which are short and light in punctuation,
+ * whereas raw prose dense in punctuation, hyphens, and contractions has been measured at 2-5MB per second.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class EnglishTokenizer extends Tokenizer<EmptyParameters> {
+    static private final Pattern EMAIL = Pattern.compile("[\\p{Alnum}._%+-]+@[\\p{Alnum}-]+(\\.[\\p{Alnum}-]+)*\\.\\p{Alpha}{2,}");
+
+    private final Abbreviation abbreviation;
+    private final Emoticon emoticon;
+    private final EnglishHyphen hyphen;
+    private final Html html;
+    private final Compound compound;
+    private final EnglishApostrophe apostrophe;
+    private final Currency currency;
+    private final Unit unit;
+    private final Set<String> non_capitals;
+    private final String[] preserves;
+
+    public EnglishTokenizer() {
+        abbreviation = new Abbreviation();
+        emoticon = new Emoticon();
+        hyphen = new EnglishHyphen();
+        html = new Html();
+        compound = new Compound(Language.ENGLISH);
+        apostrophe = new EnglishApostrophe();
+        currency = new Currency();
+        unit = new Unit();
+        non_capitals = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(Dictionary.ROOT + "non-capitals.txt"), true, true);
+        preserves = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(Dictionary.ROOT + "preserve.txt"), true, true).toArray(new String[0]);
+    }
+
+    /**
+     * The dictionaries are loaded from the resources; thus, this method does nothing.
+     */
+    @Override
+    public void load(String model_path, EmptyParameters params) {
+    }
+
+    @Override
+    public void save(String model_path, EmptyParameters params) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void train(List<String> trn_data, List<String> dev_data, EmptyParameters params) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Document decode(String input, EmptyParameters params) {
+        Document document = new Document();
+        int sen_id = 0;
+
+        for (List<NLPNode> nodes : segment(input, tokenize(input)))
+            document.add(new Sentence(sen_id++, nodes));
+
+        return document;
+    }
+
+//  =================================== Tokenize ===================================
+
+    /**
+     * @return the tokens in the text with their character offsets, where the token IDs are not assigned.
+     */
+    public List<NLPNode> tokenize(String text) {
+        List<NLPNode> tokens = new ArrayList<>();
+        int i = 0, j, len = text.length();
+
+        while (i < len) {
+            if (isWhiteSpace(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            for (j = i + 1; j < len && !isWhiteSpace(text.charAt(j)); j++) ;
+            tokenizeChunk(text, i, j, tokens);
+            i = j;
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Tokenizes the whitespace-delimited chunk in {@code [begin, end)}.
+     */
+    private void tokenizeChunk(String text, int begin, int end, List<NLPNode> tokens) {
+        int j;
+
+        if ((j = getHyperlinkEnd(text, begin, end)) > begin) {
+            addToken(tokens, text.substring(begin, j), begin, j);
+            begin = j;
+        } else if (end - begin > 1 && !isWordChar(text.charAt(begin)) && emoticon.isEmoticon(text.substring(begin, end))) {
+            addToken(tokens, text.substring(begin, end), begin, end);
+            return;
+        }
+
+        int i = begin, pending = -1;
+        char c;
+
+        while (i < end) {
+            c = text.charAt(i);
+
+            j = isWordChar(c) || CharUtils.isApostrophe(c) ? getPreserveEnd(text, i, end) : -1;
+
+            if (j > i || isWordChar(c)) {
+                if (j < 0) {
+                    j = getWordEnd(text, i, end);
+                    j = getAbbreviationEnd(text, i, j, end);
+                }
+
+                addWord(tokens, text, pending >= 0 ? pending : i, j);
+                pending = -1;
+            } else if (c == '&' && (j = addHtmlEntity(tokens, text, i, end)) > i) {
+                // the HTML entity is added
+            } else if (c == '-' && hyphen.preserveHyphen(text, getWordBegin(tokens, text, begin, i), i, end)) {
+                j = i + 1;
+
+                if (i > begin && isWordChar(text.charAt(i - 1)))
+                    extendLastToken(tokens, text, j);
+                else if (j < end)
+                    pending = i;
+                else
+                    addToken(tokens, text.substring(i, j), i, j);
+            } else {
+                j = getSymbolEnd(text, i, end);
+                addToken(tokens, text.substring(i, j), i, j);
+            }
+
+            i = j;
+        }
+    }
+
+    /**
+     * @return the end index of the hyperlink at the beginning of the chunk if exists; otherwise, {@code -1}.
+     * Trailing punctuation is excluded from the hyperlink.
+     */
+    private int getHyperlinkEnd(String text, int begin, int end) {
+        boolean b = text.regionMatches(true, begin, "www.", 0, 4);
+
+        for (int i = begin; i < end && !b; i++) {
+            char c = text.charAt(i);
+            b = c == '@' || (c == ':' && text.startsWith("//", i + 1));
+        }
+
+        if (!b) return -1;
+        int j = end;
+
+        while (j > begin && isTrailingPunctuation(text.charAt(j - 1))) j--;
+        if (j == begin) return -1;
+        String s = text.substring(begin, j);
+
+        if (MetaUtils.startsWithNetworkProtocol(s) || StringUtils.toLowerCase(s).startsWith("www.") || (s.indexOf('@') > 0 && EMAIL.matcher(s).matches()))
+            return j;
+
+        return -1;
+    }
+
+    private boolean isTrailingPunctuation(char c) {
+        return CharUtils.isFinalMark(c) || CharUtils.isSeparatorMark(c) || CharUtils.isQuotationMark(c) || c == ')' || c == ']' || c == '}';
+    }
+
+    /**
+     * @return the end index of the entry in {@code preserve.txt} at {@code begin} if exists; otherwise, {@code -1}.
+     */
+    private int getPreserveEnd(String text, int begin, int end) {
+        for (String p : preserves) {
+            int j = begin + p.length();
+
+            if (j <= end && text.regionMatches(true, begin, p, 0, p.length()) && (j == end || !isWordChar(text.charAt(j))))
+                return j;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return the end index of the word beginning at {@code begin}, including its inner connectors.
+     */
+    private int getWordEnd(String text, int begin, int end) {
+        int j = begin + 1, run = begin;
+        char c, n;
+
+        while (j < end) {
+            c = text.charAt(j);
+
+            if (isWordChar(c)) {
+                j++;
+                continue;
+            }
+
+            if (j + 1 < end && isWordChar(n = text.charAt(j + 1)) && isConnector(text.charAt(j - 1), c, n, j - run)) {
+                run = j + 1;
+                j += 2;
+                continue;
+            }
+
+            break;
+        }
+
+        return j;
+    }
+
+    /**
+     * @param p   the previous character.
+     * @param c   the current character.
+     * @param n   the next character.
+     * @param run the length of the run before the current character since the last connector.
+     */
+    private boolean isConnector(char p, char c, char n, int run) {
+        switch (c) {
+            case '.':
+                return (CharUtils.isDigit(p) && CharUtils.isDigit(n)) || (run <= 2 && isLetter(p) && isLetter(n));
+            case ',':
+            case ':':
+            case '/':
+                return CharUtils.isDigit(p) && CharUtils.isDigit(n);
+            case '-':
+            case '\u2010':
+            case '\u2011':
+                return true;
+            case '\'':
+            case '\u2019':
+                return isLetter(n);
+            case '&':
+                return CharUtils.isUpperCase(p) && CharUtils.isUpperCase(n);
+            case '$':
+                return CharUtils.isAlphabet(p) && CharUtils.isDigit(n);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the end index of the word including the following period if the word is an abbreviation, an initial,
+     * or contains inner periods; otherwise, {@code wordEnd}.
+     * A single capital letter is an initial only if it is not {@code I} and the next word is capitalized ({@code J. Smith}),
+     * so the periods in {@code So did I.} and {@code The answer is A.} are kept as sentence-final marks.
+     */
+    private int getAbbreviationEnd(String text, int begin, int wordEnd, int end) {
+        if (wordEnd >= end || text.charAt(wordEnd) != '.' || (wordEnd + 1 < end && text.charAt(wordEnd + 1) == '.'))
+            return wordEnd;
+
+        int len = wordEnd - begin;
+
+        if ((len == 1 && isInitial(text, begin)) || (len > 2 && text.lastIndexOf('.', wordEnd - 1) > begin && isLetter(text.charAt(wordEnd - 1))))
+            return wordEnd + 1;
+
+        return abbreviation.isAbbreviationEndingWithPeriod(StringUtils.toLowerCase(text.substring(begin, wordEnd))) ? wordEnd + 1 : wordEnd;
+    }
+
+    /**
+     * @param begin the index of a single-letter word followed by a period.
+     * @return {@code true} if the letter is a capital other than {@code I} and the next word, within the chunk or after spaces, is capitalized.
+     */
+    private boolean isInitial(String text, int begin) {
+        char c = text.charAt(begin);
+        if (c == 'I' || !CharUtils.isUpperCase(c)) return false;
+
+        int i = begin + 2;
+        while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '\t')) i++;
+        return i < text.length() && CharUtils.isUpperCase(text.charAt(i));
+    }
+
+    /**
+     * Adds the word in {@code [begin, end)}, which is split by the dictionaries if applicable.
+     */
+    private void addWord(List<NLPNode> tokens, String text, int begin, int end) {
+        String word = text.substring(begin, end);
+        String[] pieces = splitWord(word);
+
+        if (pieces == null) {
+            addToken(tokens, word, begin, end);
+            return;
+        }
+
+        for (String piece : pieces) {
+            addToken(tokens, piece, begin, begin + piece.length());
+            begin += piece.length();
+        }
+    }
+
+    /**
+     * @return the pieces of the word if it is split by the dictionaries; otherwise, {@code null}.
+     */
+    private String[] splitWord(String word) {
+        boolean digit = false, alphabet = false, apos = false;
+        String[] pieces;
+
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (CharUtils.isDigit(c)) digit = true;
+            else if (CharUtils.isAlphabet(c)) alphabet = true;
+            else if (CharUtils.isApostrophe(c)) apos = true;
+        }
+
+        if (!digit && (pieces = compound.tokenize(word)) != null) return pieces;
+        if (apos && (pieces = apostrophe.tokenize(word)) != null) return pieces;
+
+        if (digit && alphabet) {
+            if ((pieces = currency.tokenize(word)) != null) return pieces;
+            if ((pieces = unit.tokenize(word)) != null) return pieces;
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the end index of the HTML entity at {@code begin} if it is added; otherwise, {@code -1}.
+     */
+    private int addHtmlEntity(List<NLPNode> tokens, String text, int begin, int end) {
+        int j = begin + 1;
+
+        while (j < end && j - begin <= 10 && (CharUtils.isAlnum(text.charAt(j)) || text.charAt(j) == '#')) j++;
+        if (j >= end || text.charAt(j) != ';' || j == begin + 1) return -1;
+
+        String entity = text.substring(begin, ++j);
+        String s = html.replace(entity);
+        if (s.equals(entity)) return -1;
+
+        addToken(tokens, s, begin, j);
+        return j;
+    }
+
+    /**
+     * @param index the index of a hyphen in the chunk beginning at {@code begin}.
+     * @return the begin index of the word token adjacent to the hyphen if exists; otherwise, {@code index}.
+     */
+    private int getWordBegin(List<NLPNode> tokens, String text, int begin, int index) {
+        return index > begin && isWordChar(text.charAt(index - 1)) ? tokens.get(tokens.size() - 1).getBeginOffset() : index;
+    }
+
+    /**
+     * @return the end index of the symbol at {@code begin}; a run of final marks or of the same character is one symbol.
+     */
+    private int getSymbolEnd(String text, int begin, int end) {
+        char c = text.charAt(begin);
+        int j = begin + 1;
+
+        if (Character.isHighSurrogate(c) && j < end && Character.isLowSurrogate(text.charAt(j)))
+            return j + 1;
+
+        if (CharUtils.isFinalMark(c))
+            while (j < end && CharUtils.isFinalMark(text.charAt(j))) j++;
+        else
+            while (j < end && text.charAt(j) == c) j++;
+
+        return j;
+    }
+
+    private void addToken(List<NLPNode> tokens, String form, int begin, int end) {
+        NLPNode node = new NLPNode(form);
+        node.setBeginOffset(begin);
+        node.setEndOffset(end);
+        tokens.add(node);
+    }
+
+    private void extendLastToken(List<NLPNode> tokens, String text, int end) {
+        NLPNode node = tokens.get(tokens.size() - 1);
+        node.setEndOffset(end);
+        node.setToken(text.substring(node.getBeginOffset(), end));
+    }
+
+    private boolean isWhiteSpace(char c) {
+        return CharUtils.isWhiteSpace(c) || Character.isWhitespace(c);
+    }
+
+    private boolean isWordChar(char c) {
+        return CharUtils.isAlnum(c) || (c >= 128 && Character.isLetterOrDigit(c));
+    }
+
+    private boolean isLetter(char c) {
+        return CharUtils.isAlphabet(c) || (c >= 128 && Character.isLetter(c));
+    }
+
+//  =================================== Segment ===================================
+
+    /**
+     * Groups the tokens into sentences and assigns their token IDs.
+     * @param text   the text that the tokens are extracted from.
+     * @param tokens the tokens returned by {@link #tokenize(String)}.
+     * @return the list of sentences, where each sentence is a list of tokens.
+     */
+    public List<List<NLPNode>> segment(String text, List<NLPNode> tokens) {
+        List<List<NLPNode>> sentences = new ArrayList<>();
+        int i, begin = 0, size = tokens.size();
+
+        for (i = 0; i < size; i++) {
+            NLPNode curr = tokens.get(i);
+            String form = curr.getToken();
+            boolean end;
+
+            if (i + 1 == size)
+                end = true;
+            else if (isParagraphBreak(text, curr.getEndOffset(), tokens.get(i + 1).getBeginOffset()))
+                end = true;
+            else if (isFinalMarks(form)) {
+                while (i + 1 < size && tokens.get(i + 1).getBeginOffset() == tokens.get(i).getEndOffset() && isClosing(tokens.get(i + 1).getToken()))
+                    i++;
+
+                end = i + 1 == size || form.indexOf('.') < 0 || form.length() == 1 || isCapitalized(tokens.get(i + 1).getToken());
+            } else if (form.length() > 1 && form.charAt(form.length() - 1) == '.' && isWordChar(form.charAt(0))) {
+                String next = tokens.get(i + 1).getToken();
+                end = isCapitalized(next) && non_capitals.contains(StringUtils.toLowerCase(next));
+            } else
+                end = false;
+
+            if (end) {
+                sentences.add(toSentence(tokens, begin, i + 1));
+                begin = i + 1;
+            }
+        }
+
+        return sentences;
+    }
+
+    private List<NLPNode> toSentence(List<NLPNode> tokens, int begin, int end) {
+        List<NLPNode> nodes = new ArrayList<>(tokens.subList(begin, end));
+
+        for (int i = 0; i < nodes.size(); i++)
+            nodes.get(i).setTokenID(i);
+
+        return nodes;
+    }
+
+    private boolean isParagraphBreak(String text, int begin, int end) {
+        int lines = 0;
+
+        for (int i = begin; i < end; i++) {
+            if (text.charAt(i) == '\n' && ++lines > 1)
+                return true;
+        }
+
+        return false;
+    }
+
+    private boolean isFinalMarks(String form) {
+        for (int i = 0; i < form.length(); i++) {
+            if (!CharUtils.isFinalMark(form.charAt(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean isClosing(String form) {
+        char c = form.charAt(0);
+        return c == ')' || c == ']' || c == '}' || CharUtils.isQuotationMark(c);
+    }
+
+    private boolean isCapitalized(String form) {
+        char c = form.charAt(0);
+        return CharUtils.isUpperCase(c) || (c >= 128 && Character.isUpperCase(c));
+    }
+}
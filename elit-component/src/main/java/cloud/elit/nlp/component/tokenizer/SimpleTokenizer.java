@@ -19,16 +19,28 @@ package cloud.elit.nlp.component.tokenizer;
 import cloud.elit.sdk.component.Tokenizer;
 import cloud.elit.sdk.structure.Document;
 import cloud.elit.sdk.structure.Sentence;
-import cloud.elit.sdk.structure.util.ELITUtils;
+import cloud.elit.sdk.structure.node.NLPNode;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class SimpleTokenizer extends Tokenizer<SimpleTokenizerParameters> {
+    static private final int CHUNK_SIZE = 8192;
     private Pattern DELIM;
 
     public SimpleTokenizer() {
@@ -43,7 +55,10 @@ public class SimpleTokenizer extends Tokenizer<SimpleTokenizerParameters> {
 
             for (int i = 0; (line = reader.readLine()) != null; i++) {
                 if (i == params.getChoice()) {
-                    DELIM = Pattern.compile(line.trim());
+                    Pattern delim = Pattern.compile(line.trim());
+                    if (delim.matcher("").matches())
+                        throw new IllegalArgumentException("The delimiter must not match an empty string: " + delim);
+                    DELIM = delim;
                     break;
                 }
             }
@@ -52,24 +67,191 @@ public class SimpleTokenizer extends Tokenizer<SimpleTokenizerParameters> {
         }
     }
 
+    /**
+     * Splits the input by the delimiter in a single pass, where the begin and end offsets of each token
+     * are recorded in its node so they are kept in the JSON output as {@link cloud.elit.sdk.structure.util.Fields#OFF}.
+     */
     @Override
     public Document decode(String input, SimpleTokenizerParameters params) {
-        String[] tokens = DELIM.split(input);
         Document document = new Document();
-        int sen_id = 0, begin = 0;
+        new SentenceIterator(new TokenReader(input), null).forEachRemaining(document::add);
+        return document;
+    }
+
+    /**
+     * Streams sentences from the reader, where only the current sentence is kept in memory.
+     * Sentences are split the same way as {@link #decode(String, SimpleTokenizerParameters)}, and are also split
+     * when they reach {@link SimpleTokenizerParameters#getMaxSentenceSize()} tokens.
+     * Token offsets are counted from the current position of the reader, which is not closed by this method;
+     * since the offsets of {@link NLPNode} are {@code int}, a token beyond {@link Integer#MAX_VALUE} characters
+     * throws {@link IllegalStateException} instead of wrapping around.
+     *
+     * @param params if {@code null}, sentences are split only by their final marks.
+     * @return the iterator of sentences, whose IDs are assigned in order.
+     * Its methods throw {@link UncheckedIOException} if the reader fails, so the output is never silently truncated.
+     */
+    public Iterator<Sentence> iterator(Reader reader, SimpleTokenizerParameters params) {
+        return new SentenceIterator(new TokenReader(reader), params);
+    }
+
+    /**
+     * Calls {@link #iterator(Reader, SimpleTokenizerParameters)}, where the channel is decoded in UTF-8.
+     */
+    public Iterator<Sentence> iterator(ReadableByteChannel channel, SimpleTokenizerParameters params) {
+        return iterator(Channels.newReader(channel, StandardCharsets.UTF_8.name()), params);
+    }
+
+    /**
+     * Passes each sentence to the consumer as soon as it is completed.
+     *
+     * @see #iterator(Reader, SimpleTokenizerParameters)
+     */
+    public void decode(Reader reader, SimpleTokenizerParameters params, Consumer<Sentence> consumer) {
+        iterator(reader, params).forEachRemaining(consumer);
+    }
+
+    /**
+     * Passes each sentence to the consumer as soon as it is completed.
+     *
+     * @see #iterator(ReadableByteChannel, SimpleTokenizerParameters)
+     */
+    public void decode(ReadableByteChannel channel, SimpleTokenizerParameters params, Consumer<Sentence> consumer) {
+        iterator(channel, params).forEachRemaining(consumer);
+    }
 
-        for (int end = 0; end < tokens.length; end++) {
-            String token = tokens[end];
-            if (token.endsWith(".") || token.endsWith("?") || token.endsWith("!")) {
-                document.add(new Sentence(sen_id++, ELITUtils.toNLPNodes(tokens, begin, end + 1)));
-                begin = end + 1;
+    private class SentenceIterator implements Iterator<Sentence> {
+        private final TokenReader reader;
+        private final int max_size;
+        private Sentence next;
+        private int sen_id;
+
+        SentenceIterator(TokenReader reader, SimpleTokenizerParameters params) {
+            this.reader = reader;
+            max_size = params != null ? params.getMaxSentenceSize() : Integer.MAX_VALUE;
+            next = nextSentence();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Sentence next() {
+            if (next == null) throw new NoSuchElementException();
+            Sentence sentence = next;
+            next = nextSentence();
+            return sentence;
+        }
+
+        private Sentence nextSentence() {
+            List<NLPNode> nodes = new ArrayList<>();
+            NLPNode node;
+
+            while (nodes.size() < max_size && (node = reader.next(nodes.size())) != null) {
+                nodes.add(node);
+                String token = node.getToken();
+                if (token.endsWith(".") || token.endsWith("?") || token.endsWith("!")) break;
             }
+
+            return nodes.isEmpty() ? null : new Sentence(sen_id++, nodes);
         }
+    }
 
-        if (begin < tokens.length)
-            document.add(new Sentence(ELITUtils.toNLPNodes(tokens, begin, tokens.length)));
+    /**
+     * Finds the delimiters with a matcher over a sliding window of the input, and creates a node for each span between them.
+     * When the input is a reader, the window is refilled whenever a token or a delimiter may continue past its end.
+     */
+    private class TokenReader {
+        private final Matcher matcher;
+        private final Reader reader;
+        private final StringBuilder window;
+        private final char[] chunk;
+        private CharSequence text;
+        /** The index of the next character to read in {@link #text}. */
+        private int position;
+        /** The offset of the first character in {@link #text} from the beginning of the input. */
+        private long offset;
+        private boolean eof;
 
-        return document;
+        TokenReader(String input) {
+            matcher = DELIM.matcher(input);
+            reader = null;
+            window = null;
+            chunk = null;
+            text = input;
+            eof = true;
+        }
+
+        TokenReader(Reader reader) {
+            this.reader = reader;
+            window = new StringBuilder(CHUNK_SIZE);
+            chunk = new char[CHUNK_SIZE];
+            matcher = DELIM.matcher(window);
+            text = window;
+        }
+
+        /**
+         * @return the node of the next token whose ID is {@code token_id} if exists; otherwise, {@code null}.
+         */
+        NLPNode next(int token_id) {
+            while (true) {
+                if (matcher.find(position)) {
+                    if (matcher.hitEnd() && !eof) { fill(); continue; }
+
+                    if (matcher.start() == position) {
+                        position = matcher.end();
+                        continue;
+                    }
+
+                    return create(token_id, matcher.start(), matcher.end());
+                }
+
+                if (!eof) { fill(); continue; }
+                if (position == text.length()) return null;
+                return create(token_id, text.length(), text.length());
+            }
+        }
+
+        /**
+         * @param end  the end index of the token in {@link #text}.
+         * @param next the index to read from next.
+         */
+        private NLPNode create(int token_id, int end, int next) {
+            NLPNode node = new NLPNode(token_id, text.subSequence(position, end).toString());
+            node.setBeginOffset(toOffset(position));
+            node.setEndOffset(toOffset(end));
+            position = next;
+            return node;
+        }
+
+        /**
+         * @return the offset of the index in {@link #text} from the beginning of the input.
+         * @throws IllegalStateException if the offset does not fit in {@code int}.
+         */
+        private int toOffset(int index) {
+            long off = offset + index;
+            if (off > Integer.MAX_VALUE) throw new IllegalStateException("The token offset exceeds " + Integer.MAX_VALUE + ": " + off);
+            return (int) off;
+        }
+
+        /**
+         * Drops the characters already read from the window and appends the next chunk from the reader.
+         * @throws UncheckedIOException if the reader fails.
+         */
+        private void fill() {
+            offset += position;
+            window.delete(0, position);
+            position = 0;
+
+            try {
+                int len = reader.read(chunk);
+                if (len < 0) eof = true;
+                else window.append(chunk, 0, len);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read the input", e);
+            }
+        }
     }
 
     @Override
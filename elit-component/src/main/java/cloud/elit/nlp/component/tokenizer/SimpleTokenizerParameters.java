@@ -23,9 +23,18 @@ public class SimpleTokenizerParameters implements Parameters {
      * The number of the line in the model file including the regular expression to be used for tokenization.
      */
     private int choice;
+    /**
+     * The maximum number of tokens in each sentence when streaming.
+     */
+    private int max_sentence_size;
 
     public SimpleTokenizerParameters(int choice) {
+        this(choice, Integer.MAX_VALUE);
+    }
+
+    public SimpleTokenizerParameters(int choice, int max_sentence_size) {
         setChoice(choice);
+        setMaxSentenceSize(max_sentence_size);
     }
 
     public String getModelName() {
@@ -43,4 +52,13 @@ public class SimpleTokenizerParameters implements Parameters {
     public void setChoice(int choice) {
         this.choice = choice;
     }
+
+    public int getMaxSentenceSize() {
+        return max_sentence_size;
+    }
+
+    public void setMaxSentenceSize(int size) {
+        if (size < 1) throw new IllegalArgumentException("The maximum sentence size must be positive: " + size);
+        this.max_sentence_size = size;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.nlp.component.tokenizer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import cloud.elit.sdk.structure.Document;
+import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.node.NLPNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EnglishTokenizerTest {
+    private final EnglishTokenizer tokenizer = new EnglishTokenizer();
+
+    @Test
+    public void testTokenize() {
+        assertEquals("Mr. Smith paid US$ 20 & bought 5 kg .", tokenize("Mr. Smith paid US$20 &amp; bought 5kg."));
+        assertEquals("I ca n't believe it 's 3.14 ...", tokenize("I can't believe it's 3.14..."));
+        assertEquals("state-of-the-art 1,000,000 12:30 1/2 AT&T 'cause w/o :) 1990's can not", tokenize("state-of-the-art 1,000,000 12:30 1/2 AT&T 'cause w/o :) 1990's cannot"));
+        assertEquals("Visit https://elit.cloud/docs . Email jinho.choi@emory.edu , please", tokenize("Visit https://elit.cloud/docs. Email jinho.choi@emory.edu, please"));
+        assertEquals("the pre- and post-war era -able -- dashes", tokenize("the pre- and post-war era -able -- dashes"));
+        assertEquals("( e.g. U.S. J. Smith ) ?!", tokenize("(e.g. U.S. J. Smith)?!"));
+        assertEquals("So did I . The answer is A .", tokenize("So did I. The answer is A."));
+        assertEquals("J.K. Rowling and J. R. R. Tolkien", tokenize("J.K. Rowling and J. R. R. Tolkien"));
+        assertEquals("( pre- and post-war ) \" pre- and post-war \"", tokenize("(pre- and post-war) \"pre- and post-war\""));
+
+        String text = "  He said \"Hi.\"\n";
+        for (NLPNode node : tokenizer.tokenize(text))
+            assertEquals(node.getToken(), text.substring(node.getBeginOffset(), node.getEndOffset()));
+    }
+
+    @Test
+    public void testSegment() {
+        Document document = tokenizer.decode("He said \"Hi.\" She left! The U.S. The end... and then Mr. Smith came\n\nNew paragraph");
+        List<String> sentences = document.get().stream().map(s -> String.join(" ", s.getTokens())).collect(Collectors.toList());
+
+        assertEquals("He said \" Hi . \"", sentences.get(0));
+        assertEquals("She left !", sentences.get(1));
+        assertEquals("The U.S.", sentences.get(2));
+        assertEquals("The end ... and then Mr. Smith came", sentences.get(3));
+        assertEquals("New paragraph", sentences.get(4));
+        assertEquals(5, sentences.size());
+
+        Sentence sentence = document.get(1);
+        assertEquals(1, sentence.getID());
+        assertEquals(2, sentence.get(2).getTokenID());
+        assertEquals(14, sentence.get(0).getBeginOffset());
+    }
+
+    private String tokenize(String text) {
+        return tokenizer.tokenize(text).stream().map(NLPNode::getToken).collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.nlp.component.tokenizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import cloud.elit.sdk.structure.Document;
+import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.node.NLPNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SimpleTokenizerTest {
+    private final SimpleTokenizer tokenizer = new SimpleTokenizer();
+
+    @Test
+    public void testStream() {
+        String text = "Hello World! This is ELIT.  Is it\tgood?\n\nYes, it is";
+        Document document = tokenizer.decode(text);
+        List<Sentence> sentences = new ArrayList<>();
+        tokenizer.decode(new StringReader(text), null, sentences::add);
+
+        assertEquals(document.size(), sentences.size());
+
+        for (int i = 0; i < sentences.size(); i++) {
+            assertEquals(document.get(i).getTokens(), sentences.get(i).getTokens());
+            assertEquals(i, sentences.get(i).getID());
+        }
+
+        Iterator<Sentence> it = tokenizer.iterator(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))), new SimpleTokenizerParameters(0, 2));
+        assertEquals("[Hello, World!]", it.next().getTokens().toString());
+        assertEquals("[This, is]", it.next().getTokens().toString());
+        assertEquals("[ELIT.]", it.next().getTokens().toString());
+        assertEquals("[Is, it]", it.next().getTokens().toString());
+        assertEquals("[good?]", it.next().getTokens().toString());
+        assertEquals("[Yes,, it]", it.next().getTokens().toString());
+        assertEquals("[is]", it.next().getTokens().toString());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testOffsets() {
+        String text = "  Hello World!\tThis is ELIT.\n\nYes";
+        Document document = tokenizer.decode(text);
+
+        for (Sentence sentence : document) {
+            for (NLPNode node : sentence)
+                assertEquals(node.getToken(), text.substring(node.getBeginOffset(), node.getEndOffset()));
+        }
+
+        assertEquals(2, document.get(0).get(0).getBeginOffset());
+        assertEquals(2, document.get(2).getID());
+
+        Document streamed = new Document();
+        tokenizer.decode(new StringReader(text), null, streamed::add);
+        assertEquals(document.toString(), streamed.toString());
+
+        Document json = new Document("{\"output\":" + document.toString() + "}");
+        assertEquals(document.toString(), json.toString());
+        assertEquals(30, json.get(2).get(0).getBeginOffset());
+    }
+
+    @Test
+    public void testChunks() {
+        String[] words = {"Hello", "World!", "caf\u00e9", "\u4e2d\u6587.", "is", "ELIT.", "good?", "\n\n", "a\tb", "  "};
+        StringBuilder build = new StringBuilder();
+        Random random = new Random(0);
+
+        // longer than a few windows of SimpleTokenizer.CHUNK_SIZE, including a token longer than the window
+        while (build.length() < 30000) build.append(words[random.nextInt(words.length)]).append(' ');
+        for (int i = 0; i < 9000; i++) build.append((char) ('a' + i % 26));
+        build.append(". The end");
+
+        String text = build.toString();
+        Document document = tokenizer.decode(text);
+        Document streamed = new Document();
+        tokenizer.decode(new FewCharsReader(text, new Random(1)), null, streamed::add);
+        assertSameTokens(document, streamed);
+
+        Document channel = new Document();
+        InputStream in = new FewBytesInputStream(text.getBytes(StandardCharsets.UTF_8), new Random(2));
+        tokenizer.decode(Channels.newChannel(in), null, channel::add);
+        assertSameTokens(document, channel);
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testReadError() {
+        StringBuilder build = new StringBuilder();
+        for (int i = 0; i < 100; i++) build.append("Hello World! ");
+
+        Reader reader = new FewCharsReader(build.toString(), new Random(0)) {
+            private int reads = 0;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (++reads == 4) throw new IOException("connection reset");
+                return super.read(cbuf, off, len);
+            }
+        };
+
+        tokenizer.decode(reader, null, sentence -> {});
+    }
+
+    private void assertSameTokens(Document expected, Document actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Sentence e = expected.get(i), a = actual.get(i);
+            assertEquals(e.size(), a.size());
+
+            for (int j = 0; j < e.size(); j++) {
+                assertEquals(e.get(j).getToken(), a.get(j).getToken());
+                assertEquals(e.get(j).getBeginOffset(), a.get(j).getBeginOffset());
+                assertEquals(e.get(j).getEndOffset(), a.get(j).getEndOffset());
+            }
+        }
+    }
+
+    /**
+     * Returns 1 to 3 characters per {@link #read(char[], int, int)}.
+     */
+    static private class FewCharsReader extends Reader {
+        private final String text;
+        private final Random random;
+        private int index;
+
+        FewCharsReader(String text, Random random) {
+            this.text = text;
+            this.random = random;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (index >= text.length()) return -1;
+            int n = Math.min(Math.min(len, 1 + random.nextInt(3)), text.length() - index);
+            text.getChars(index, index + n, cbuf, off);
+            index += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Returns 1 to 3 bytes per {@link #read(byte[], int, int)}, which may split multi-byte characters.
+     */
+    static private class FewBytesInputStream extends ByteArrayInputStream {
+        private final Random random;
+
+        FewBytesInputStream(byte[] bytes, Random random) {
+            super(bytes);
+            this.random = random;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1 + random.nextInt(3)));
+        }
+    }
+}
@@ -17,13 +17,22 @@ package cloud.elit.ddr.bin;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.kohsuke.args4j.Option;
 import cloud.elit.ddr.constituency.CTReader;
 import cloud.elit.ddr.constituency.CTTree;
 import cloud.elit.ddr.conversion.C2DConverter;
+import cloud.elit.ddr.conversion.C2DMetrics;
 import cloud.elit.ddr.conversion.EnglishC2DConverter;
 import cloud.elit.ddr.util.BinUtils;
 import cloud.elit.ddr.util.FileUtils;
@@ -33,11 +42,14 @@ import cloud.elit.ddr.util.Splitter;
 import cloud.elit.sdk.collection.tuple.ObjectIntIntTuple;
 import cloud.elit.sdk.structure.Chunk;
 import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.TSVWriter;
 import cloud.elit.sdk.structure.node.NLPNode;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 
 public class DDRConvert {
+    static private final int BATCH_SIZE = 32;
+
     @Option(name = "-d", usage = "input path (required)", required = true, metaVar = "<filepath>")
     private String input_path;
     @Option(name = "-pe", usage = "parse file extension (default: parse)", metaVar = "<string>")
@@ -48,6 +60,17 @@ public class DDRConvert {
     private boolean normalize = false;
     @Option(name = "-r", usage = "if set, traverse parse files recursively", metaVar = "<boolean>")
     private boolean recursive = false;
+    @Option(name = "-threads", usage = "number of threads converting files concurrently (default: 1)", metaVar = "<integer>")
+    private int threads = 1;
+    @Option(name = "-tp", usage = "if set, distribute the trees within each file across the threads instead of the files", metaVar = "<boolean>")
+    private boolean tree_parallel = false;
+    @Option(name = "-metrics", usage = "if set, print the time and calls of each conversion stage", metaVar = "<boolean>")
+    private boolean print_metrics = false;
+
+    /**
+     * Shared by all converters created by {@link #createConverter()}; {@code null} if the conversion is not instrumented.
+     */
+    private C2DMetrics metrics;
 
     public DDRConvert() {
 
@@ -56,34 +79,114 @@ public class DDRConvert {
     public DDRConvert(String[] args) {
         BinUtils.initArgs(args, this);
         Language language = Language.ENGLISH;
+        if (print_metrics) metrics = new C2DMetrics();
 
         List<String> parseFiles = FileUtils.getFileList(input_path, parse_ext, recursive);
+        long st = System.currentTimeMillis();
+        int n;
+
+        if (threads <= 1)
+            n = convert(language, parseFiles);
+        else if (tree_parallel)
+            n = convertTrees(language, parseFiles, threads);
+        else
+            n = convert(language, parseFiles, threads);
+
+        double sec = Math.max(System.currentTimeMillis() - st, 1) / 1000d;
+        System.out.printf("Total: %d trees in %.2f seconds (%.2f trees/sec)\n", n, sec, n / sec);
+        if (metrics != null) System.out.print(metrics);
+    }
+
+    /**
+     * @return the converter recording to {@link #metrics}.
+     */
+    C2DConverter createConverter() {
         C2DConverter converter = new EnglishC2DConverter();
+        converter.setMetrics(metrics);
+        return converter;
+    }
+
+    /**
+     * Converts the parse files one after another using a single converter.
+     * @return the total number of trees converted.
+     */
+    int convert(Language language, List<String> parseFiles) {
+        C2DConverter converter = createConverter();
+        int total = 0;
 
         for (String parseFile : parseFiles) {
             int n = convert(converter, language, parseFile, parseFile + "." + output_ext, normalize);
             System.out.printf("%s: %d trees\n", parseFile, n);
+            total += n;
+        }
+
+        return total;
+    }
+
+    /**
+     * Converts the parse files concurrently, where all worker threads share the same converter.
+     * The output of each file is identical to {@link #convert(Language, List)}.
+     * @return the total number of trees converted.
+     */
+    int convert(Language language, List<String> parseFiles, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        C2DConverter converter = createConverter();
+        List<Future<Integer>> futures = new ArrayList<>();
+        int total = 0;
+
+        for (String parseFile : parseFiles)
+            futures.add(executor.submit(() -> convert(converter, language, parseFile, parseFile + "." + output_ext, normalize)));
+
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                int n = futures.get(i).get();
+                System.out.printf("%s: %d trees\n", parseFiles.get(i), n);
+                total += n;
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw failure(futures, e);
+        } finally {
+            executor.shutdown();
         }
+
+        return total;
+    }
+
+    /**
+     * Converts the parse files one after another, where the trees within each file are distributed across the worker threads.
+     * The output of each file is identical to {@link #convert(Language, List)}.
+     * @return the total number of trees converted.
+     */
+    int convertTrees(Language language, List<String> parseFiles, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        C2DConverter converter = createConverter();
+        int total = 0;
+
+        try {
+            for (String parseFile : parseFiles) {
+                int n = convert(converter, language, parseFile, parseFile + "." + output_ext, normalize, executor, threads * 4, BATCH_SIZE);
+                System.out.printf("%s: %d trees\n", parseFile, n);
+                total += n;
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        return total;
     }
 
     int convert(C2DConverter converter, Language language, String parseFile, String outputFile, boolean normalize) {
         Int2ObjectMap<List<ObjectIntIntTuple<String>>> ner_map = getNamedEntities(parseFile);
         CTReader reader = new CTReader(IOUtils.createFileInputStream(parseFile), language);
         PrintStream fout = IOUtils.createBufferedPrintStream(outputFile);
-        Sentence dTree;
+        StringBuilder build = new StringBuilder();
+        TSVWriter writer = new TSVWriter(build);
         CTTree cTree;
         int n;
 
         for (n = 0; (cTree = reader.next()) != null; n++) {
-            if (normalize) cTree.normalizeIndices();
-            dTree = converter.toDependencyGraph(cTree);
-
-            if (dTree == null) {
-                System.err.println("No token in the tree " + (n + 1) + "\n" + cTree.toStringLine());
-            } else {
-                processNamedEntities(ner_map, cTree, dTree, n);
-                fout.println(dTree.toTSV() + "\n");
-            }
+            build.setLength(0);
+            if (toTSV(converter, ner_map, cTree, n, normalize, writer)) fout.append(build.append("\n\n"));
         }
 
         reader.close();
@@ -91,6 +194,106 @@ public class DDRConvert {
         return n;
     }
 
+    /**
+     * Reads trees from the parse file on the calling thread and converts them on the executor in batches.
+     * Pending batches are kept in a buffer of the specific capacity so the graphs are written in the original tree order.
+     * If any conversion fails, the pending batches are cancelled and the failure is thrown as in {@link #convert(C2DConverter, Language, String, String, boolean)}.
+     * @param converter shared by all worker threads.
+     * @param batch the number of trees converted by each task.
+     * @return the number of trees in the parse file.
+     */
+    int convert(C2DConverter converter, Language language, String parseFile, String outputFile, boolean normalize, ExecutorService executor, int capacity, int batch) {
+        Int2ObjectMap<List<ObjectIntIntTuple<String>>> ner_map = getNamedEntities(parseFile);
+        CTReader reader = new CTReader(IOUtils.createFileInputStream(parseFile), language);
+        PrintStream fout = IOUtils.createBufferedPrintStream(outputFile);
+        Deque<Future<StringBuilder>> buffer = new ArrayDeque<>(capacity);
+        CTTree cTree = null;
+        int n = 0;
+
+        try {
+            do {
+                List<CTTree> trees = new ArrayList<>(batch);
+                while (trees.size() < batch && (cTree = reader.next()) != null) trees.add(cTree);
+                if (trees.isEmpty()) break;
+
+                final int sen_id = n;
+                if (buffer.size() == capacity) fout.append(buffer.poll().get());
+                buffer.add(executor.submit(() -> toTSV(converter, ner_map, trees, sen_id, normalize)));
+                n += trees.size();
+            } while (cTree != null);
+
+            while (!buffer.isEmpty())
+                fout.append(buffer.poll().get());
+        } catch (InterruptedException | ExecutionException e) {
+            throw failure(buffer, e);
+        } finally {
+            reader.close();
+            fout.close();
+        }
+
+        return n;
+    }
+
+    /**
+     * Cancels the pending tasks and restores the interrupt flag if the calling thread is interrupted.
+     * @return the exception thrown by the failed task, or an {@link IllegalStateException} wrapping the failure.
+     */
+    private RuntimeException failure(Collection<? extends Future<?>> pending, Exception e) {
+        for (Future<?> future : pending) future.cancel(true);
+
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("The conversion is interrupted", e);
+        }
+
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return new IllegalStateException("The conversion failed", cause);
+    }
+
+    /**
+     * Converts the trees using a single writer, where each dependency graph is followed by a blank line.
+     * @param sen_id the index of the first tree in its parse file.
+     * @return the TSV representation of the dependency graphs.
+     */
+    StringBuilder toTSV(C2DConverter converter, Int2ObjectMap<List<ObjectIntIntTuple<String>>> ner_map, List<CTTree> trees, int sen_id, boolean normalize) {
+        StringBuilder build = new StringBuilder();
+        TSVWriter writer = new TSVWriter(build);
+
+        for (CTTree cTree : trees) {
+            if (toTSV(converter, ner_map, cTree, sen_id++, normalize, writer))
+                build.append("\n\n");
+        }
+
+        return build;
+    }
+
+    /**
+     * Writes the TSV representation of the dependency graph converted from the tree.
+     * @param sen_id the index of the tree in its parse file, used to look up the named entities.
+     * @return {@code true} if the dependency graph contains tokens; otherwise, {@code false}.
+     */
+    boolean toTSV(C2DConverter converter, Int2ObjectMap<List<ObjectIntIntTuple<String>>> ner_map, CTTree cTree, int sen_id, boolean normalize, TSVWriter writer) {
+        if (normalize) cTree.normalizeIndices();
+        Sentence dTree = converter.toDependencyGraph(cTree);
+
+        if (dTree == null) {
+            System.err.println("No token in the tree " + (sen_id + 1) + "\n" + cTree.toStringLine());
+            return false;
+        }
+
+        processNamedEntities(ner_map, cTree, dTree, sen_id);
+
+        try {
+            writer.write(dTree);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return true;
+    }
+
     Int2ObjectMap<List<ObjectIntIntTuple<String>>> getNamedEntities(String parseFile) {
         final String nameFile = parseFile.substring(0, parseFile.length() - 5) + "name";
         Int2ObjectMap<List<ObjectIntIntTuple<String>>> map = new Int2ObjectOpenHashMap<>();
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.bin;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.kohsuke.args4j.Option;
+import cloud.elit.ddr.util.BinUtils;
+import cloud.elit.ddr.util.DSUtils;
+import cloud.elit.ddr.util.Splitter;
+import cloud.elit.ddr.util.StringAutomaton;
+
+/**
+ * Compiles the lexicon files into {@link StringAutomaton}s ({@code filename + StringAutomaton.EXT}),
+ * where {@code *.base} files are compiled as sets and {@code *.exc} files are compiled as maps.
+ * Called at the {@code process-classes} phase of the build.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class LexiconCompile {
+    static public final String EXT_BASE = ".base";
+    static public final String EXT_EXCEPTION = ".exc";
+
+    @Option(name = "-d", usage = "input directory containing the lexicon files (required)", required = true, metaVar = "<filepath>")
+    private String input_dir;
+    @Option(name = "-o", usage = "output directory (default: the input directory)", metaVar = "<filepath>")
+    private String output_dir = null;
+
+    public LexiconCompile(String[] args) {
+        BinUtils.initArgs(args, this);
+        File[] files = new File(input_dir).listFiles((dir, name) -> name.endsWith(EXT_BASE) || name.endsWith(EXT_EXCEPTION));
+        File outputDir = new File(output_dir != null ? output_dir : input_dir);
+
+        if (files == null) {
+            System.err.println("Error: directory not found - " + input_dir);
+            return;
+        }
+
+        outputDir.mkdirs();
+
+        for (File file : files) {
+            File outputFile = new File(outputDir, file.getName() + StringAutomaton.EXT);
+            StringAutomaton fsa = compile(file);
+            if (fsa == null) continue;
+
+            try (OutputStream out = new FileOutputStream(outputFile)) {
+                fsa.write(out);
+                System.out.printf("%s: %d entries\n", outputFile, fsa.size());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Reads the lexicon file in the same way as the text lexicons are read by {@link DSUtils}.
+     */
+    static public StringAutomaton compile(File file) {
+        try (InputStream in = new FileInputStream(file)) {
+            return file.getName().endsWith(EXT_BASE) ?
+                    StringAutomaton.build(DSUtils.createStringHashSet(in)) :
+                    StringAutomaton.build(DSUtils.createStringHashMap(in, Splitter.T_SPACE));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    public static void main(String[] args) {
+        try {
+            new LexiconCompile(args);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
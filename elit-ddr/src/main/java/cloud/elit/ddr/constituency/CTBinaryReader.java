@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads constituent trees written by {@link CTBinaryWriter}.
+ * Trees are restored as they were when written, including antecedents, so neither bracket parsing nor
+ * {@link cloud.elit.ddr.util.PTBLib#preprocess(CTTree)} is performed.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ * @see CTBinaryWriter
+ */
+public class CTBinaryReader {
+    private final List<String> syntactic_tags;
+    private final List<String> function_tags;
+    private final List<String> forms;
+    private final DataInputStream in;
+    private byte[] buffer;
+
+    /**
+     * @param in internally wrapped by {@code new DataInputStream(new BufferedInputStream(in))}.
+     * @throws IllegalArgumentException if the stream is not in the binary format or its version is not supported.
+     * @throws UncheckedIOException if the header cannot be read.
+     */
+    public CTBinaryReader(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        syntactic_tags = new ArrayList<>();
+        function_tags = new ArrayList<>();
+        forms = new ArrayList<>();
+        buffer = new byte[64];
+
+        try {
+            if (this.in.readInt() != CTBinaryWriter.MAGIC)
+                throw new IllegalArgumentException("Not a binary constituent tree stream");
+
+            int version = this.in.readInt();
+
+            if (version != CTBinaryWriter.VERSION)
+                throw new IllegalArgumentException("Unsupported binary constituent tree version: " + version);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the binary constituent tree header", e);
+        }
+    }
+
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return a list of all constituent trees in the input stream.
+     * @throws UncheckedIOException if any tree cannot be read.
+     */
+    public List<CTTree> readTrees() {
+        List<CTTree> trees = new ArrayList<>();
+        CTTree tree;
+
+        while ((tree = next()) != null)
+            trees.add(tree);
+
+        return trees;
+    }
+
+    /**
+     * @return the next tree if exists; otherwise, {@code null}.
+     * @throws UncheckedIOException if the stream ends within a tree or cannot be read.
+     */
+    public CTTree next() {
+        try {
+            int size;
+
+            try {
+                size = readVarInt();
+            } catch (EOFException e) {
+                return null;
+            }
+
+            readStrings(syntactic_tags, size);
+            readStrings(function_tags, readVarInt());
+            readStrings(forms, readVarInt());
+
+            CTNode[] nodes = new CTNode[readVarInt()];
+            int[] antecedents = new int[nodes.length];
+            long[] bitset = new long[readVarInt()];
+            int i, j, parent, form;
+            CTNode node;
+
+            for (i = 0; i < nodes.length; i++) {
+                parent = readVarInt();
+                node = new CTNode(syntactic_tags.get(readVarInt()));
+                for (j = 0; j < bitset.length; j++) bitset[j] = readVarLong();
+                addFunctionTags(node, bitset);
+
+                form = readVarInt() - 1;
+                if (form >= 0) node.setForm(forms.get(form));
+                node.setCoIndex(readVarInt() - 1);
+                node.setGapIndex(readVarInt() - 1);
+                antecedents[i] = readVarInt() - 1;
+
+                if (parent > 0) nodes[i - parent].addChild(node);
+                nodes[i] = node;
+            }
+
+            for (i = 0; i < nodes.length; i++) {
+                if (antecedents[i] >= 0)
+                    nodes[i].setAntecedent(nodes[antecedents[i]]);
+            }
+
+            return new CTTree(nodes[0], false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the binary constituent tree", e);
+        }
+    }
+
+    private void readStrings(List<String> table, int size) throws IOException {
+        for (int i = 0; i < size; i++)
+            table.add(readString());
+    }
+
+    /**
+     * @see CTBinaryWriter
+     */
+    private String readString() throws IOException {
+        int length = readVarInt();
+        if (buffer.length < length) buffer = new byte[Math.max(length, buffer.length * 2)];
+        in.readFully(buffer, 0, length);
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    /**
+     * @see CTBinaryWriter
+     */
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    private void addFunctionTags(CTNode node, long[] bitset) {
+        for (int i = 0; i < bitset.length; i++) {
+            for (long bits = bitset[i]; bits != 0; bits &= bits - 1)
+                node.addFunctionTag(function_tags.get(i * 64 + Long.numberOfTrailingZeros(bits)));
+        }
+    }
+}
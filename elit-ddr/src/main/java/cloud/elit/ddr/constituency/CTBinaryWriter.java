@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Writes constituent trees in a compact binary format read by {@link CTBinaryReader}.
+ * The stream starts with {@link #MAGIC} and {@link #VERSION}, followed by one record per tree:
+ * <ul>
+ * <li>the syntactic tags, function tags, and word-forms first seen in the tree, appended to their interned tables;</li>
+ * <li>the number of nodes and the number of 64-bit words in each function tag bitset;</li>
+ * <li>for each node in pre-order: the distance to its parent, syntactic tag ID, function tag bitset, form ID, co-index, gap-index, and antecedent index.</li>
+ * </ul>
+ * All integers are written as variable-length quantities; values that can be {@code -1} are shifted by one.
+ * Strings are written as their lengths in bytes followed by their bytes in UTF-8, so they are not limited to 64KB.
+ * Write errors are thrown to the caller; an {@link IOException} leaves the stream incomplete.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ * @see CTBinaryReader
+ */
+public class CTBinaryWriter {
+    static public final String EXT = ".ctb";
+    static final int MAGIC = 0x43544253;
+    static final int VERSION = 2;
+
+    private final Object2IntMap<String> syntactic_tags;
+    private final Object2IntMap<String> function_tags;
+    private final Object2IntMap<String> forms;
+    private final DataOutputStream out;
+
+    /**
+     * @param out internally wrapped by {@code new DataOutputStream(new BufferedOutputStream(out))}.
+     */
+    public CTBinaryWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        syntactic_tags = createTable();
+        function_tags = createTable();
+        forms = createTable();
+
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+    }
+
+    private Object2IntMap<String> createTable() {
+        Object2IntMap<String> table = new Object2IntOpenHashMap<>();
+        table.defaultReturnValue(-1);
+        return table;
+    }
+
+    public void close() throws IOException {
+        out.close();
+    }
+
+    public void writeTrees(List<CTTree> trees) throws IOException {
+        for (CTTree tree : trees)
+            write(tree);
+    }
+
+    public void write(CTTree tree) throws IOException {
+        List<CTNode> nodes = tree.getRoot().flatten().collect(Collectors.toList());
+        Map<CTNode, Integer> node_ids = new IdentityHashMap<>(nodes.size());
+        List<String> new_syntactic_tags = new ArrayList<>();
+        List<String> new_function_tags = new ArrayList<>();
+        List<String> new_forms = new ArrayList<>();
+
+        for (CTNode node : nodes) {
+            node_ids.put(node, node_ids.size());
+            intern(syntactic_tags, new_syntactic_tags, node.getSyntacticTag());
+            for (String tag : node.getFunctionTags()) intern(function_tags, new_function_tags, tag);
+            if (node.getForm() != null) intern(forms, new_forms, node.getForm());
+        }
+
+        int words = (function_tags.size() + 63) / 64;
+
+        writeStrings(new_syntactic_tags);
+        writeStrings(new_function_tags);
+        writeStrings(new_forms);
+        writeVarLong(nodes.size());
+        writeVarLong(words);
+
+        for (int i = 0; i < nodes.size(); i++) {
+            CTNode node = nodes.get(i);
+            writeVarLong(node.hasParent() ? i - node_ids.get(node.getParent()) : 0);
+            writeVarLong(syntactic_tags.getInt(node.getSyntacticTag()));
+            for (long bits : toBitset(node, words)) writeVarLong(bits);
+            writeVarLong(node.getForm() != null ? forms.getInt(node.getForm()) + 1 : 0);
+            writeVarLong(node.getCoIndex() + 1);
+            writeVarLong(node.getGapIndex() + 1);
+            writeVarLong(node.hasAntecedent() ? node_ids.getOrDefault(node.getAntecedent(), -1) + 1 : 0);
+        }
+    }
+
+    private void intern(Object2IntMap<String> table, List<String> new_entries, String s) {
+        if (!table.containsKey(s)) {
+            table.put(s, table.size());
+            new_entries.add(s);
+        }
+    }
+
+    private void writeStrings(List<String> list) throws IOException {
+        writeVarLong(list.size());
+        for (String s : list) writeString(s);
+    }
+
+    private void writeString(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes 7 bits at a time, where the highest bit of each byte indicates whether more bytes follow.
+     */
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte((int) value);
+    }
+
+    private long[] toBitset(CTNode node, int words) {
+        long[] bitset = new long[words];
+
+        for (String tag : node.getFunctionTags()) {
+            int id = function_tags.getInt(tag);
+            bitset[id >>> 6] |= 1L << (id & 63);
+        }
+
+        return bitset;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Byte offsets of the top-level bracketed trees in a memory-mapped parse file.
+ * The offsets are saved to a sidecar file ({@code parseFile + EXT}) so they are computed only once per parse file.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ * @see CTReader#get(int)
+ */
+public class CTIndex {
+    static public final String EXT = ".idx";
+    static final int MAGIC = 0x43544958;
+    static final int VERSION = 1;
+
+    private final MappedByteBuffer buffer;
+    private final int[] offsets;
+
+    private CTIndex(MappedByteBuffer buffer, int[] offsets) {
+        this.buffer = buffer;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Memory-maps the parse file and loads its tree index from the sidecar file if it is up-to-date;
+     * otherwise, builds the tree index and saves it to the sidecar file.
+     * @return the tree index of the parse file.
+     * @throws IllegalArgumentException if the parse file cannot be read or is larger than 2GB.
+     */
+    static public CTIndex open(String parseFile) {
+        File file = new File(parseFile);
+        File indexFile = new File(parseFile + EXT);
+        MappedByteBuffer buffer;
+        int[] offsets = null;
+
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            if (in.length() > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("The parse file must be smaller than 2GB: " + parseFile);
+
+            buffer = in.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, in.length());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read the parse file: " + parseFile, e);
+        }
+
+        if (indexFile.isFile() && indexFile.lastModified() >= file.lastModified())
+            offsets = load(indexFile, buffer.capacity());
+
+        if (offsets == null) {
+            offsets = build(buffer);
+            save(indexFile, buffer.capacity(), offsets);
+        }
+
+        return new CTIndex(buffer, offsets);
+    }
+
+    /**
+     * @return the byte offsets of all brackets opened at depth 0 in the buffer.
+     */
+    static public int[] build(ByteBuffer buffer) {
+        int[] offsets = new int[64];
+        int i, size = 0, depth = 0;
+        byte b;
+
+        for (i = buffer.position(); i < buffer.limit(); i++) {
+            b = buffer.get(i);
+
+            if (b == '(') {
+                if (depth++ == 0) {
+                    if (size == offsets.length) offsets = Arrays.copyOf(offsets, size * 2);
+                    offsets[size++] = i;
+                }
+            } else if (b == ')' && depth > 0) {
+                depth--;
+            }
+        }
+
+        return Arrays.copyOf(offsets, size);
+    }
+
+    /**
+     * @param fileSize the size of the parse file in bytes.
+     * @return the byte offsets in the index file if it matches the parse file; otherwise, {@code null}.
+     */
+    static private int[] load(File indexFile, int fileSize) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != fileSize)
+                return null;
+
+            int[] offsets = new int[in.readInt()];
+
+            for (int i = 0; i < offsets.length; i++)
+                offsets[i] = in.readInt();
+
+            return offsets;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    static private void save(File indexFile, int fileSize, int[] offsets) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(fileSize);
+            out.writeInt(offsets.length);
+
+            for (int offset : offsets)
+                out.writeInt(offset);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return the number of trees in the parse file.
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * @return the byte offset of the specific tree in the parse file.
+     */
+    public int getOffset(int treeId) {
+        return offsets[treeId];
+    }
+
+    /**
+     * @return the input stream reading the parse file from the specific tree to the end;
+     * if {@code treeId} is greater than or equal to {@link #size()}, the stream is empty.
+     */
+    public InputStream getInputStream(int treeId) {
+        ByteBuffer b = buffer.duplicate();
+        b.position(treeId < offsets.length ? offsets[treeId] : b.limit());
+        return new ByteBufferInputStream(b);
+    }
+
+    static private class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -15,6 +15,9 @@
  */
 package cloud.elit.ddr.constituency;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,7 +31,6 @@ import java.util.StringTokenizer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
-import cloud.elit.ddr.util.DSUtils;
 import cloud.elit.ddr.util.Joiner;
 import cloud.elit.ddr.util.StringConst;
 import cloud.elit.ddr.util.StringUtils;
@@ -47,11 +49,23 @@ public class CTNode extends Node<CTNode> implements Comparable<CTNode> {
     // fields
     private String form;
     private String lemma;
-    private String syntactic_tag;
     private String named_entity_tag;
-    private Set<String> function_tags;
     private Map<String, String> feat_map;
 
+    // tags, serialized as strings since the IDs depend on the order the tags are added to the vocabulary
+    /**
+     * The ID of the syntactic tag in {@link CTTagVocabulary}.
+     */
+    private transient int syntactic_tag;
+    /**
+     * The mask of the function tags with IDs in {@link CTTagVocabulary}.
+     */
+    private transient long function_tags;
+    /**
+     * The function tags without IDs in {@link CTTagVocabulary} if exist; otherwise, {@code null}.
+     */
+    private transient Set<String> function_tags_ext;
+
     // indices
     private int token_id = -1;
     private int terminal_id = -1;
@@ -160,23 +174,37 @@ public class CTNode extends Node<CTNode> implements Comparable<CTNode> {
     }
 
     public String getSyntacticTag() {
-        return syntactic_tag;
+        return CTTagVocabulary.getSyntacticTag(syntactic_tag);
     }
 
     public void setSyntacticTag(String tag) {
-        this.syntactic_tag = tag;
+        this.syntactic_tag = CTTagVocabulary.addSyntacticTag(tag);
+    }
+
+    /**
+     * @return the ID of the syntactic tag in {@link CTTagVocabulary}.
+     */
+    public int getSyntacticTagID() {
+        return syntactic_tag;
+    }
+
+    /**
+     * @param id the ID of a syntactic tag in {@link CTTagVocabulary}.
+     */
+    public boolean isSyntacticTag(int id) {
+        return syntactic_tag == id;
     }
 
     public boolean isSyntacticTag(String tag) {
-        return this.syntactic_tag.equals(tag);
+        return getSyntacticTag().equals(tag);
     }
 
     public boolean isSyntacticTag(Pattern pattern) {
-        return pattern.matcher(syntactic_tag).find();
+        return pattern.matcher(getSyntacticTag()).find();
     }
 
     public boolean isSyntacticTag(Collection<String> set) {
-        return set.contains(syntactic_tag);
+        return set.contains(getSyntacticTag());
     }
 
     public boolean isSyntacticTag(String... tags) {
@@ -196,47 +224,84 @@ public class CTNode extends Node<CTNode> implements Comparable<CTNode> {
     }
 
     /**
-     * @return the setForm of function tags.
+     * @return a new set containing the function tags of this node; modifying the set does not affect this node.
      */
     public Set<String> getFunctionTags() {
-        return function_tags;
+        Set<String> set = (function_tags_ext != null) ? new HashSet<>(function_tags_ext) : new HashSet<>();
+
+        for (long bits = function_tags; bits != 0; bits &= bits - 1)
+            set.add(CTTagVocabulary.getFunctionTag(Long.numberOfTrailingZeros(bits)));
+
+        return set;
     }
 
     public void addFunctionTag(String tag) {
-        function_tags.add(tag);
+        int id = CTTagVocabulary.addFunctionTag(tag);
+
+        if (id >= 0)
+            function_tags |= 1L << id;
+        else {
+            if (function_tags_ext == null) function_tags_ext = new HashSet<>();
+            function_tags_ext.add(tag);
+        }
     }
 
     public void addFunctionTags(Collection<String> tags) {
-        function_tags.addAll(tags);
+        for (String tag : tags) addFunctionTag(tag);
     }
 
     public void removeFunctionTag(String tag) {
-        function_tags.remove(tag);
+        int id = CTTagVocabulary.getFunctionTagID(tag);
+
+        if (id >= 0)
+            function_tags &= ~(1L << id);
+        else if (function_tags_ext != null) {
+            function_tags_ext.remove(tag);
+            if (function_tags_ext.isEmpty()) function_tags_ext = null;
+        }
     }
 
     public void clearFunctionTags() {
-        function_tags.clear();
+        function_tags = 0;
+        function_tags_ext = null;
     }
 
     /**
      * @return true if this node has any function tag; otherwise, false.
      */
     public boolean hasFunctionTag() {
-        return !function_tags.isEmpty();
+        return function_tags != 0 || function_tags_ext != null;
     }
 
     /**
      * @return true if this node contains the specific function tag; otherwise, false.
      */
     public boolean isFunctionTag(String tag) {
-        return function_tags.contains(tag);
+        int id = CTTagVocabulary.getFunctionTagID(tag);
+
+        if (id >= 0) return (function_tags & (1L << id)) != 0;
+        return function_tags_ext != null && function_tags_ext.contains(tag);
+    }
+
+    /**
+     * @param mask the mask of function tags (see {@link CTTagVocabulary#getFunctionTagMask(Collection)}).
+     * @return true if this node has any of the function tags in the mask; otherwise, false.
+     */
+    public boolean isFunctionTag(long mask) {
+        return (function_tags & mask) != 0;
     }
 
     /**
      * @return true if this node has any of the specific function tags; otherwise, false.
      */
     public boolean isFunctionTag(Collection<String> tags) {
-        return DSUtils.hasIntersection(function_tags, tags);
+        if (!hasFunctionTag()) return false;
+
+        for (String tag : tags) {
+            if (isFunctionTag(tag)) return true;
+        }
+
+        return false;
     }
 
     /**
@@ -264,11 +329,11 @@ public class CTNode extends Node<CTNode> implements Comparable<CTNode> {
      * @return all tags in the Penn Treebank format (e.g., "NP-SBJ-TMP-1=2").
      */
     public String getTags() {
-        List<String> fTags = new ArrayList<>(function_tags);
+        List<String> fTags = new ArrayList<>(getFunctionTags());
         StringBuilder build = new StringBuilder();
         Collections.sort(fTags);
 
-        build.append(syntactic_tag);
+        build.append(getSyntacticTag());
 
         for (String fTag : fTags) {
             build.append(DELIM_FUNCTION_TAG);
@@ -294,7 +359,7 @@ public class CTNode extends Node<CTNode> implements Comparable<CTNode> {
      * @param tags tags in the Penn Treebank format (e.g., "NP-SBJ-TMP-1=2").
      */
     public void setTags(String tags) {
-        function_tags = new HashSet<>();
+        clearFunctionTags();
 
         if (tags.charAt(0) == '-') {
             setSyntacticTag(tags);
@@ -753,6 +818,19 @@ public class CTNode extends Node<CTNode> implements Comparable<CTNode> {
         }
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(getSyntacticTag());
+        out.writeObject(new ArrayList<>(getFunctionTags()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        setSyntacticTag((String) in.readObject());
+        addFunctionTags((List<String>) in.readObject());
+    }
+
     @Override
     public int compareTo(@NotNull CTNode n) {
         return terminal_id == n.terminal_id ? height - n.height : terminal_id - n.terminal_id;
@@ -19,26 +19,46 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.LineNumberReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
-import java.util.StringTokenizer;
+import cloud.elit.ddr.util.CharConst;
 import cloud.elit.ddr.util.Language;
 import cloud.elit.ddr.util.PTBLib;
 import cloud.elit.ddr.util.StringConst;
 
 /**
  * Constituent tree reader.
+ * Brackets are parsed by scanning a character buffer directly; strings are created only for tags and word-forms.
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  * @see CTTree
  */
 public class CTReader {
-    private LineNumberReader reader;
-    private Deque<String> tokens;
+    static private final int BUFFER_SIZE = 8192;
+
+    static private final int TOKEN_EOF = -1;
+    static private final int TOKEN_LRB = 0;
+    static private final int TOKEN_RRB = 1;
+    static private final int TOKEN_TEXT = 2;
+
+    private Reader reader;
     private Language language;
+    private CTIndex index;
+
+    private char[] buffer;
+    private int buffer_index;
+    private int buffer_size;
+
+    private char[] token;
+    private int token_length;
+
+    /**
+     * The number of line terminators consumed so far.
+     */
+    private int line_number;
+    private boolean carriage_return;
 
     public CTReader() {
         this(Language.ENGLISH);
@@ -49,7 +69,7 @@ public class CTReader {
     }
 
     /**
-     * @param in internally wrapped by {@code new LineNumberReader(new InputStreamReader(new BufferedInputStream(in)))}}.
+     * @param in internally wrapped by {@code new InputStreamReader(new BufferedInputStream(in))}}.
      */
     public CTReader(InputStream in) {
         this(in, Language.ENGLISH);
@@ -61,7 +81,16 @@ public class CTReader {
     }
 
     /**
-     * @param in internally wrapped by {@code new LineNumberReader(new InputStreamReader(new BufferedInputStream(in)))}}.
+     * Creates a reader supporting random access to the trees by {@link #get(int)}.
+     * @param index the tree index of a parse file; the reader is positioned at the first tree.
+     */
+    public CTReader(CTIndex index, Language language) {
+        setIndex(index);
+        setLanguage(language);
+    }
+
+    /**
+     * @param in internally wrapped by {@code new InputStreamReader(new BufferedInputStream(in))}}.
      */
     public void open(InputStream in) {
         open(in, "UTF-8");
@@ -69,8 +98,13 @@ public class CTReader {
 
     public void open(InputStream in, String charsetName) {
         try {
-            reader = new LineNumberReader(new InputStreamReader(new BufferedInputStream(in), charsetName));
-            tokens = new ArrayDeque<>();
+            reader = new InputStreamReader(new BufferedInputStream(in), charsetName);
+            buffer = new char[BUFFER_SIZE];
+            buffer_index = buffer_size = 0;
+            token = new char[64];
+            token_length = 0;
+            line_number = 0;
+            carriage_return = false;
         } catch (UnsupportedEncodingException e) {
             e.printStackTrace();
         }
@@ -89,6 +123,23 @@ public class CTReader {
         }
     }
 
+    public CTIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the tree index and positions this reader at the first tree in the index.
+     * @throws IllegalArgumentException if the index is {@code null}.
+     */
+    public void setIndex(CTIndex index) {
+        if (index == null)
+            throw new IllegalArgumentException("The tree index must not be null.");
+
+        this.index = index;
+        close();
+        open(index.getInputStream(0));
+    }
+
     public Language getLanguage() {
         return language;
     }
@@ -116,35 +167,34 @@ public class CTReader {
      * Automatically links antecedents of all co-indexed empty categories.
      */
     public CTTree next() {
-        String token = nextToken(), tags;
+        int type = nextToken();
 
-        if (token == null)
+        if (type == TOKEN_EOF)
             return null;
 
-        if (!token.equals(StringConst.LRB)) {
-            System.err.println("Error: \"" + token + "\" found, \"(\" expected - line " + reader.getLineNumber());
+        if (type != TOKEN_LRB) {
+            System.err.println("Error: \"" + getToken(type) + "\" found, \"(\" expected - line " + getLineNumber());
             return null;
         }
 
-        int nBrackets = 1, startLine = reader.getLineNumber();
+        int nBrackets = 1, startLine = getLineNumber();
         CTNode root = new CTNode(CTTag.TOP, null);
         CTNode curr = root, node;
 
-        while ((token = nextToken()) != null) {
-            if (nBrackets == 1 && token.equals(CTTag.TOP))
+        while ((type = nextToken()) != TOKEN_EOF) {
+            if (nBrackets == 1 && type == TOKEN_TEXT && isToken(CTTag.TOP))
                 continue;
 
-            if (token.equals(StringConst.LRB)) {
-                tags = nextToken();
-                node = new CTNode(tags);
+            if (type == TOKEN_LRB) {
+                node = new CTNode(getToken(nextToken()));
                 curr.addChild(node);
                 curr = node;
                 nBrackets++;
-            } else if (token.equals(StringConst.RRB)) {
+            } else if (type == TOKEN_RRB) {
                 curr = curr.getParent();
                 nBrackets--;
             } else {
-                curr.setForm(token);
+                curr.setForm(getToken(type));
             }
 
             if (nBrackets == 0) {
@@ -175,34 +225,141 @@ public class CTReader {
     }
 
     /**
-     * Called by {@link #next()}.
+     * Parses only the specific tree by seeking its offset in the tree index;
+     * subsequent calls to {@link #next()} continue from the following tree.
+     * @param treeId the ID of the tree to retrieve (starting at 0).
+     * @return the tree if exists; otherwise, {@code null}.
+     * @throws IllegalStateException if the tree index is not set.
      */
-    private String nextToken() {
-        if (tokens.isEmpty()) {
-            String line = null;
+    public CTTree get(int treeId) {
+        if (index == null)
+            throw new IllegalStateException("The tree index is not set.");
 
-            try {
-                line = reader.readLine();
-            } catch (IOException e) {
-                e.printStackTrace();
+        if (treeId < 0 || treeId >= index.size())
+            return null;
+
+        close();
+        open(index.getInputStream(treeId));
+        return next();
+    }
+
+//  =================================== Tokenization ===================================
+
+    /**
+     * Called by {@link #next()}.
+     * Text tokens are collected in {@link #token}, trimmed the same way as {@link String#trim()}.
+     * @return the type of the next token.
+     */
+    private int nextToken() {
+        int c;
+
+        while ((c = read()) >= 0) {
+            if (c == CharConst.LRB) return TOKEN_LRB;
+            if (c == CharConst.RRB) return TOKEN_RRB;
+            if (isDelimiter(c)) continue;
+            token_length = 0;
+
+            for (; ; ) {
+                if (c > ' ' || token_length > 0) addToken(c);
+                if ((c = peek()) < 0 || c == CharConst.LRB || c == CharConst.RRB || isDelimiter(c)) break;
+                read();
             }
 
-            if (line == null)
+            while (token_length > 0 && token[token_length - 1] <= ' ')
+                token_length--;
+
+            if (token_length > 0) return TOKEN_TEXT;
+        }
+
+        return TOKEN_EOF;
+    }
+
+    private boolean isDelimiter(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    private void addToken(int c) {
+        if (token_length == token.length)
+            token = Arrays.copyOf(token, token_length * 2);
+
+        token[token_length++] = (char) c;
+    }
+
+    /**
+     * @return the string of the token of the specific type if exists; otherwise, {@code null}.
+     */
+    private String getToken(int type) {
+        switch (type) {
+            case TOKEN_LRB:
+                return StringConst.LRB;
+            case TOKEN_RRB:
+                return StringConst.RRB;
+            case TOKEN_TEXT:
+                return new String(token, 0, token_length);
+            default:
                 return null;
+        }
+    }
 
-            line = line.trim();
-            if (line.isEmpty())
-                return nextToken();
+    /**
+     * @return {@code true} if the current text token equals to the specific string.
+     */
+    private boolean isToken(String s) {
+        if (token_length != s.length()) return false;
 
-            StringTokenizer tok = new StringTokenizer(line, "() \t\n\r\f", true);
-            String str;
+        for (int i = 0; i < token_length; i++) {
+            if (token[i] != s.charAt(i)) return false;
+        }
 
-            while (tok.hasMoreTokens()) {
-                str = tok.nextToken().trim();
-                if (!str.isEmpty()) tokens.add(str);
-            }
+        return true;
+    }
+
+    /**
+     * @return the 1-based line number of the last character read.
+     */
+    private int getLineNumber() {
+        return line_number + 1;
+    }
+
+    /**
+     * @return the next character without consuming it if exists; otherwise, {@code -1}.
+     */
+    private int peek() {
+        return fill() ? buffer[buffer_index] : -1;
+    }
+
+    /**
+     * @return the next character if exists; otherwise, {@code -1}.
+     */
+    private int read() {
+        if (!fill()) return -1;
+        char c = buffer[buffer_index++];
+
+        if (c == '\n') {
+            if (!carriage_return) line_number++;
+            carriage_return = false;
+        } else {
+            carriage_return = (c == '\r');
+            if (carriage_return) line_number++;
+        }
+
+        return c;
+    }
+
+    /**
+     * @return {@code true} if the buffer contains at least one unread character.
+     */
+    private boolean fill() {
+        if (buffer_index < buffer_size) return true;
+
+        try {
+            buffer_size = reader.read(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            e.printStackTrace();
+            buffer_size = -1;
         }
 
-        return tokens.pop();
+        buffer_index = 0;
+        return buffer_size > 0;
     }
-}	
\ No newline at end of file
+}
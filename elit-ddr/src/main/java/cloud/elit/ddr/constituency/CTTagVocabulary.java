@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import cloud.elit.ddr.util.PTBTag;
+
+/**
+ * Interned vocabulary assigning an integer ID to every syntactic tag and function tag, seeded from {@link PTBTag}.
+ * Function tags whose IDs are less than {@link #FUNCTION_TAG_BITS} can be represented as bits in a {@code long} mask
+ * (see {@link CTNode#isFunctionTag(long)}); the function tags in {@link PTBTag} are guaranteed to be in this range.
+ * Tags not seen before are added on demand; this class is thread-safe.
+ * <p>
+ * The vocabulary lives as long as the class is loaded and is never cleared.
+ * At most {@link #FUNCTION_TAG_BITS} function tags are interned; other function tags get no ID and are kept by each node.
+ * Syntactic tags are interned without a limit, assuming that the input uses a closed tagset as treebanks do;
+ * an input with an unbounded number of distinct syntactic tags keeps growing this vocabulary.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class CTTagVocabulary {
+    static public final int FUNCTION_TAG_BITS = Long.SIZE;
+
+    static private final Vocabulary SYNTACTIC_TAGS = new Vocabulary(Integer.MAX_VALUE);
+    static private final Vocabulary FUNCTION_TAGS = new Vocabulary(FUNCTION_TAG_BITS);
+
+    static {
+        SYNTACTIC_TAGS.add(CTTag.TOP);
+        SYNTACTIC_TAGS.add(CTTag.NONE);
+
+        for (Field field : PTBTag.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) continue;
+            String name = field.getName();
+
+            try {
+                if (name.startsWith("C_") || name.startsWith("P_"))
+                    SYNTACTIC_TAGS.add((String) field.get(null));
+                else if (name.startsWith("F_"))
+                    FUNCTION_TAGS.add((String) field.get(null));
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private CTTagVocabulary() {
+    }
+
+//  =================================== Syntactic Tags ===================================
+
+    /**
+     * @return the ID of the syntactic tag if exists; otherwise, {@code -1}.
+     */
+    static public int getSyntacticTagID(String tag) {
+        return SYNTACTIC_TAGS.get(tag);
+    }
+
+    /**
+     * @return the ID of the syntactic tag, where the tag is added to this vocabulary if it does not exist.
+     */
+    static public int addSyntacticTag(String tag) {
+        return SYNTACTIC_TAGS.add(tag);
+    }
+
+    static public String getSyntacticTag(int id) {
+        return SYNTACTIC_TAGS.get(id);
+    }
+
+    /**
+     * @return the number of syntactic tags in this vocabulary.
+     */
+    static public int getSyntacticTagSize() {
+        return SYNTACTIC_TAGS.size();
+    }
+
+//  =================================== Function Tags ===================================
+
+    /**
+     * @return the ID of the function tag if exists; otherwise, {@code -1}.
+     */
+    static public int getFunctionTagID(String tag) {
+        return FUNCTION_TAGS.get(tag);
+    }
+
+    /**
+     * @return the ID of the function tag, where the tag is added to this vocabulary if it does not exist;
+     * {@code -1} if the tag does not exist and the vocabulary already has {@link #FUNCTION_TAG_BITS} function tags.
+     */
+    static public int addFunctionTag(String tag) {
+        return FUNCTION_TAGS.add(tag);
+    }
+
+    static public String getFunctionTag(int id) {
+        return FUNCTION_TAGS.get(id);
+    }
+
+    /**
+     * @return the number of function tags in this vocabulary.
+     */
+    static public int getFunctionTagSize() {
+        return FUNCTION_TAGS.size();
+    }
+
+    /**
+     * @return the mask of the function tags, where the tags are added to this vocabulary if they do not exist.
+     * @throws IllegalArgumentException if any tag cannot be added to the vocabulary.
+     */
+    static public long getFunctionTagMask(Collection<String> tags) {
+        long mask = 0;
+
+        for (String tag : tags) {
+            int id = addFunctionTag(tag);
+
+            if (id < 0)
+                throw new IllegalArgumentException("Function tag out of the mask range: " + tag);
+
+            mask |= 1L << id;
+        }
+
+        return mask;
+    }
+
+    /**
+     * Lookups are lock-free; additions are synchronized, where the tag array grows geometrically up to the capacity.
+     * A tag is stored in the array before its ID is published, so any published ID refers to a stored tag.
+     * Package-private so it can be tested on its own instances without affecting the global vocabularies.
+     */
+    static class Vocabulary {
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final int capacity;
+        private volatile String[] tags;
+        private volatile int size;
+
+        Vocabulary(int capacity) {
+            this.capacity = capacity;
+            tags = new String[Math.min(capacity, 16)];
+        }
+
+        int get(String tag) {
+            Integer id = ids.get(tag);
+            return id != null ? id : -1;
+        }
+
+        String get(int id) {
+            return tags[id];
+        }
+
+        int add(String tag) {
+            Integer id = ids.get(tag);
+            return id != null ? id : addAux(tag);
+        }
+
+        /**
+         * @return the ID of the added tag; {@code -1} if the vocabulary is full.
+         */
+        synchronized private int addAux(String tag) {
+            Integer id = ids.get(tag);
+            if (id != null) return id;
+            if (size == capacity) return -1;
+
+            if (size == tags.length)
+                tags = Arrays.copyOf(tags, (int) Math.min((long) tags.length * 2, capacity));
+
+            tags[size] = tag;
+            ids.put(tag, size);
+            return size++;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -48,11 +48,23 @@ public class CTTree {
 //  =================================== Constructor ===================================
 
     public CTTree(CTNode root) {
+        this(root, true);
+    }
+
+    /**
+     * @param link if {@code true}, the co-indices of empty categories are parsed from their forms and antecedents are linked by the co-indices;
+     *             otherwise, they are assumed to be already set in the nodes (e.g., by {@link CTBinaryReader}).
+     */
+    CTTree(CTNode root, boolean link) {
         this.root = root;
-        init();
+        init(link);
     }
 
     private void init() {
+        init(true);
+    }
+
+    private void init(boolean link) {
         empty_category_map = new Int2ObjectOpenHashMap<>();
         terminals = root.getTerminals();
         tokens = new ArrayList<>();
@@ -64,7 +76,7 @@ public class CTTree {
                 String form = node.getForm();
                 int idx;
 
-                if ((idx = form.lastIndexOf(CTNode.DELIM_CO_INDEX)) >= 0) {
+                if (link && (idx = form.lastIndexOf(CTNode.DELIM_CO_INDEX)) >= 0) {
                     int index = Integer.parseInt(form.substring(idx + 1));
                     node.setCoIndex(index);
                     node.setForm(form.substring(0, idx));
@@ -88,7 +100,7 @@ public class CTTree {
             }
         }
 
-        root.flatten().forEach(this::initAntecedent);
+        if (link) root.flatten().forEach(this::initAntecedent);
     }
 
     private void initAntecedent(CTNode node) {
@@ -31,11 +31,17 @@ import cloud.elit.sdk.structure.Sentence;
 import cloud.elit.sdk.structure.node.NLPNode;
 
 /**
+ * Subclasses should keep every field read-only after construction and store per-tree state only in the tree being converted,
+ * so a single converter can be shared across threads; {@link C2DMetrics} is thread-safe.
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public abstract class C2DConverter {
-    protected HeadRuleMap headrule_map;
-    protected HeadRule default_rule;
+    protected final HeadRuleMap headrule_map;
+    protected final HeadRule default_rule;
+    /**
+     * If {@code null}, the conversion is not instrumented.
+     */
+    protected volatile C2DMetrics metrics;
 
     /**
      * The default rule takes the rightmost constituency as the head.
@@ -45,11 +51,45 @@ public abstract class C2DConverter {
     }
 
     /**
+     * @param headrule_map must not be modified once it is passed to this converter; it is compiled by this constructor (see {@link HeadRuleMap#compile()}).
      * @param default_rule use this rule when no specified headrule matches.
      */
     public C2DConverter(HeadRuleMap headrule_map, HeadRule default_rule) {
         this.headrule_map = headrule_map;
         this.default_rule = default_rule;
+        headrule_map.compile();
+        default_rule.compile();
+    }
+
+//  ============================= Metrics =============================
+
+    public C2DMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @param metrics if not {@code null}, the time and calls of the conversion stages are recorded to the metrics.
+     */
+    public void setMetrics(C2DMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the current time in nanoseconds if the metrics are enabled; otherwise, {@code 0}.
+     */
+    protected long startTime(C2DMetrics metrics) {
+        return metrics != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since {@code start} to the specific stage if the metrics are enabled.
+     * @return the current time in nanoseconds if the metrics are enabled; otherwise, {@code 0}.
+     */
+    protected long record(C2DMetrics metrics, C2DMetrics.Stage stage, long start) {
+        if (metrics == null) return 0;
+        long time = System.nanoTime();
+        metrics.add(stage, time - start);
+        return time;
     }
 
 //  ============================= Abstract Methods =============================
@@ -102,10 +142,12 @@ public abstract class C2DConverter {
         }
 
         // find the headrule of the current node
-        HeadRule rule = headrule_map.get(node.getSyntacticTag());
+        HeadRule rule = headrule_map.getHeadRule(node.getSyntacticTagID());
 
         if (rule == null) {
             System.err.println("Error: headrules not found for \"" + node.getSyntacticTag() + "\"");
+            C2DMetrics metrics = this.metrics;
+            if (metrics != null) metrics.addHeadruleNotFound(node.getSyntacticTag());
             rule = default_rule;
         }
 
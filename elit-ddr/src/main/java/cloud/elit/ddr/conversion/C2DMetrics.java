@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.conversion;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative nanoseconds and call counts of the conversion stages, and the number of phrases whose headrules are not found.
+ * Enabled by {@link C2DConverter#setMetrics(C2DMetrics)}; this class is thread-safe so one instance can be shared by converters across threads.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class C2DMetrics {
+    private final LongAdder[] nanos;
+    private final LongAdder[] counts;
+    private final Map<String, LongAdder> headrules_not_found;
+
+    public enum Stage {
+        PREPROCESS("preprocess"),
+        SET_HEAD("setHead"),
+        POSTPROCESS("postprocess"),
+        FINALIZE_DEPENDENCIES("finalizeDependencies"),
+        CREATE_DEPENDENCY_GRAPH("createDependencyGraph"),
+        RELABEL("relabel"),
+        ADD_FEATS("addFeats"),
+        VALIDATE("validate");
+
+        private final String name;
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the name of the method performing this stage.
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    public C2DMetrics() {
+        int size = Stage.values().length;
+        nanos = new LongAdder[size];
+        counts = new LongAdder[size];
+        headrules_not_found = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            nanos[i] = new LongAdder();
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds one call of the stage taking the specific nanoseconds.
+     */
+    public void add(Stage stage, long nanoTime) {
+        nanos[stage.ordinal()].add(nanoTime);
+        counts[stage.ordinal()].increment();
+    }
+
+    /**
+     * Adds one phrase whose headrule is not found.
+     * @param tag the syntactic tag of the phrase.
+     */
+    public void addHeadruleNotFound(String tag) {
+        headrules_not_found.computeIfAbsent(tag, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return the cumulative nanoseconds of the stage.
+     */
+    public long getNanoTime(Stage stage) {
+        return nanos[stage.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of calls of the stage.
+     */
+    public long getCount(Stage stage) {
+        return counts[stage.ordinal()].sum();
+    }
+
+    /**
+     * @return the total number of phrases whose headrules are not found.
+     */
+    public long getHeadrulesNotFound() {
+        return headrules_not_found.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * @return the number of phrases whose headrules are not found, grouped by their syntactic tags in alphabetical order.
+     */
+    public Map<String, Long> getHeadrulesNotFoundByTag() {
+        Map<String, Long> map = new TreeMap<>();
+        headrules_not_found.forEach((tag, count) -> map.put(tag, count.sum()));
+        return map;
+    }
+
+    public void reset() {
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i].reset();
+            counts[i].reset();
+        }
+
+        headrules_not_found.clear();
+    }
+
+    /**
+     * @return the metrics as flat key-value pairs (e.g., {@code "setHead.nanos"}, {@code "setHead.count"}, {@code "headrules_not_found.NP"}).
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<>();
+
+        for (Stage stage : Stage.values()) {
+            map.put(stage.getName() + ".nanos", getNanoTime(stage));
+            map.put(stage.getName() + ".count", getCount(stage));
+        }
+
+        map.put("headrules_not_found", getHeadrulesNotFound());
+        getHeadrulesNotFoundByTag().forEach((tag, count) -> map.put("headrules_not_found." + tag, count));
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder build = new StringBuilder();
+        long total = 0;
+
+        for (Stage stage : Stage.values())
+            total += getNanoTime(stage);
+
+        build.append(String.format("%-22s %12s %12s %7s\n", "Stage", "Calls", "Millis", "%"));
+
+        for (Stage stage : Stage.values()) {
+            long nano = getNanoTime(stage);
+            build.append(String.format("%-22s %12d %12.2f %6.2f%%\n", stage.getName(), getCount(stage), nano / 1e6, total > 0 ? 100d * nano / total : 0));
+        }
+
+        build.append(String.format("%-22s %12d\n", "headrules not found", getHeadrulesNotFound()));
+        getHeadrulesNotFoundByTag().forEach((tag, count) -> build.append(String.format("  %-20s %12d\n", tag, count)));
+        return build.toString();
+    }
+}
@@ -17,6 +17,7 @@ package cloud.elit.ddr.conversion;
 
 import cloud.elit.ddr.constituency.CTNode;
 import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.conversion.C2DMetrics.Stage;
 import cloud.elit.ddr.conversion.headrule.HeadRule;
 import cloud.elit.ddr.conversion.headrule.HeadRuleMap;
 import cloud.elit.ddr.util.DDGTag;
@@ -33,9 +34,16 @@ public class DefaultC2DConverter extends C2DConverter {
 
     @Override
     public Sentence toDependencyGraph(CTTree tree) {
+        C2DMetrics metrics = this.metrics;
+        long time = startTime(metrics);
+
         setHead(tree.getRoot());
+        time = record(metrics, Stage.SET_HEAD, time);
         finalizeDependencies(tree.getRoot());
-        return createDependencyGraph(tree);
+        time = record(metrics, Stage.FINALIZE_DEPENDENCIES, time);
+        Sentence graph = createDependencyGraph(tree);
+        record(metrics, Stage.CREATE_DEPENDENCY_GRAPH, time);
+        return graph;
     }
 
     @Override
@@ -16,7 +16,9 @@
 package cloud.elit.ddr.conversion;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +31,9 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import cloud.elit.ddr.constituency.CTArc;
 import cloud.elit.ddr.constituency.CTNode;
+import cloud.elit.ddr.constituency.CTTagVocabulary;
 import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.conversion.C2DMetrics.Stage;
 import cloud.elit.ddr.conversion.headrule.HeadRule;
 import cloud.elit.ddr.conversion.headrule.HeadRuleMap;
 import cloud.elit.ddr.dictionary.Emoticon;
@@ -51,6 +55,8 @@ import cloud.elit.sdk.structure.node.NLPNode;
 import cloud.elit.sdk.structure.node.Node;
 
 /**
+ * This converter is thread-safe: its lexicons are immutable once constructed and {@link #toDependencyGraph(CTTree)}
+ * modifies only the input tree, so one instance can convert trees from any number of threads.
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public class EnglishC2DConverter extends C2DConverter {
@@ -82,6 +88,11 @@ public class EnglishC2DConverter extends C2DConverter {
      */
     private final Set<String> SEM_TAGS = DSUtils.toHashSet(PTBTag.F_BNF, PTBTag.F_DIR, PTBTag.F_EXT, PTBTag.F_LOC, PTBTag.F_MNR, PTBTag.F_PRP, PTBTag.F_TMP);
 
+    /**
+     * The mask of {@link PTBTag#F_ADV} and the semantic function tags.
+     */
+    private final long ADVERBIAL_TAGS = CTTagVocabulary.getFunctionTagMask(SEM_TAGS) | CTTagVocabulary.getFunctionTagMask(Collections.singleton(PTBTag.F_ADV));
+
     /**
      * Mappings between phrasal/clausal tags and phrasal/pos tags for coordination.
      */
@@ -113,7 +124,14 @@ public class EnglishC2DConverter extends C2DConverter {
         super(headrules, new HeadRule(HeadRule.DIR_RIGHT_TO_LEFT));
         this.analyzer = new EnglishLemmatizer();
         this.emoticon = new Emoticon();
-        this.eventive_nouns = eventive_nouns;
+        this.eventive_nouns = Collections.unmodifiableSet(new HashSet<>(eventive_nouns));
+    }
+
+    /**
+     * @return the lemmatizer used by {@link #lemmatize(CTTree)}, e.g., to enable its cache by {@link EnglishLemmatizer#setCache(cloud.elit.ddr.lemmatize.LemmaCache)}.
+     */
+    public EnglishLemmatizer getLemmatizer() {
+        return analyzer;
     }
 
     private Map<String, Pattern> initCoordMap() {
@@ -139,7 +157,7 @@ public class EnglishC2DConverter extends C2DConverter {
         map.put(PTBTag.C_WHADVP, PatternUtils.createClosedORPattern("RB.*", "WRB", "IN"));
         map.put(PTBTag.C_WHNP, PatternUtils.createClosedORPattern("NN.*", "WP"));
 
-        return map;
+        return Collections.unmodifiableMap(map);
     }
 
 //	============================= Abstract Methods =============================
@@ -147,14 +165,25 @@ public class EnglishC2DConverter extends C2DConverter {
     @Override
     public Sentence toDependencyGraph(CTTree tree) {
         if (tree.containsOnlyEmptyCategories()) return null;
+        C2DMetrics metrics = this.metrics;
+        long time = startTime(metrics);
+
         preprocess(tree);
+        time = record(metrics, Stage.PREPROCESS, time);
         setHead(tree.getRoot());
+        time = record(metrics, Stage.SET_HEAD, time);
         postprocess(tree);
+        time = record(metrics, Stage.POSTPROCESS, time);
         finalizeDependencies(tree.getRoot());
+        time = record(metrics, Stage.FINALIZE_DEPENDENCIES, time);
         Sentence graph = createDependencyGraph(tree);
+        time = record(metrics, Stage.CREATE_DEPENDENCY_GRAPH, time);
         relabel(tree, graph);
+        time = record(metrics, Stage.RELABEL, time);
         addFeats(tree, graph);
+        time = record(metrics, Stage.ADD_FEATS, time);
         validate(tree, graph);
+        record(metrics, Stage.VALIDATE, time);
         return graph;
     }
 
@@ -788,7 +817,7 @@ public class EnglishC2DConverter extends C2DConverter {
     }
 
     private boolean hasAdverbialTag(CTNode node) {
-        return node.isFunctionTag(PTBTag.F_ADV) || DSUtils.hasIntersection(node.getFunctionTags(), SEM_TAGS);
+        return node.isFunctionTag(ADVERBIAL_TAGS);
     }
 
     private String getSubjectLabel(CTNode node, CTNode d) {
@@ -75,6 +75,15 @@ public class HeadRule {
         return tagsets;
     }
 
+    /**
+     * Compiles the syntactic tag tables of all head tagsets.
+     * @see HeadTagSet#compile()
+     */
+    public void compile() {
+        for (HeadTagSet tagset : tagsets)
+            tagset.compile();
+    }
+
     @Override
     public String toString() {
         StringBuilder build = new StringBuilder();
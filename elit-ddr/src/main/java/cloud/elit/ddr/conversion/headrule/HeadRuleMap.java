@@ -19,10 +19,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Pattern;
+import cloud.elit.ddr.constituency.CTTagVocabulary;
 import cloud.elit.ddr.util.IOUtils;
 import cloud.elit.ddr.util.PatternConst;
 import cloud.elit.ddr.util.StringConst;
@@ -36,6 +38,11 @@ public class HeadRuleMap extends HashMap<String, HeadRule> {
     static final public String DELIM_COLUMN = StringConst.TAB;
     static final private Pattern P_COLUMN = PatternConst.TAB;
 
+    /**
+     * {@code rule_table[id]} is the headrule of the syntactic tag with the ID in {@link CTTagVocabulary}.
+     */
+    private transient volatile HeadRule[] rule_table;
+
     public HeadRuleMap() {
     }
 
@@ -63,6 +70,36 @@ public class HeadRuleMap extends HashMap<String, HeadRule> {
         }
     }
 
+    /**
+     * Compiles the lookup table of headrules indexed by syntactic tag IDs, and the tables of all headrules.
+     * Must be called again if this map is modified afterwards.
+     * @return the compiled lookup table.
+     */
+    synchronized public HeadRule[] compile() {
+        HeadRule[] table = (rule_table != null) ? rule_table : new HeadRule[0];
+        int i, size = CTTagVocabulary.getSyntacticTagSize();
+
+        if (table.length < size) {
+            table = Arrays.copyOf(table, size);
+
+            for (i = 0; i < size; i++)
+                table[i] = get(CTTagVocabulary.getSyntacticTag(i));
+        }
+
+        values().forEach(HeadRule::compile);
+        return rule_table = table;
+    }
+
+    /**
+     * @param id the ID of a syntactic tag in {@link CTTagVocabulary}.
+     * @return the headrule of the syntactic tag if exists; otherwise, {@code null}.
+     */
+    public HeadRule getHeadRule(int id) {
+        HeadRule[] table = rule_table;
+        if (table == null || id >= table.length) table = compile();
+        return table[id];
+    }
+
     @Override
     public String toString() {
         StringBuilder build = new StringBuilder();
@@ -15,10 +15,12 @@
  */
 package cloud.elit.ddr.conversion.headrule;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.regex.Pattern;
 import cloud.elit.ddr.constituency.CTNode;
+import cloud.elit.ddr.constituency.CTTagVocabulary;
 import cloud.elit.ddr.util.PatternUtils;
 import cloud.elit.ddr.util.StringConst;
 
@@ -45,6 +47,14 @@ public class HeadTagSet {
      * The set of function tags.
      */
     private final Set<String> function_tags;
+    /**
+     * The mask of {@link #function_tags} (see {@link CTTagVocabulary#getFunctionTagMask(java.util.Collection)}).
+     */
+    private final long function_tag_mask;
+    /**
+     * {@code syntactic_table[id]} is {@code true} if the syntactic tag with the ID in {@link CTTagVocabulary} matches {@link #syntactic_tags}.
+     */
+    private volatile boolean[] syntactic_table;
 
     /**
      * "NN.*|-SBJ|-TPC|NP".
@@ -63,12 +73,43 @@ public class HeadTagSet {
         }
 
         syntactic_tags = (pTags.length() != 0) ? PatternUtils.createClosedPattern(pTags.substring(1)) : null;
+        function_tag_mask = CTTagVocabulary.getFunctionTagMask(function_tags);
+        syntactic_table = new boolean[0];
+        compile();
+    }
+
+    /**
+     * Matches the syntactic tags of all tags in {@link CTTagVocabulary} against the regular expression.
+     * Tags added to the vocabulary later are compiled on demand by {@link #matches(CTNode)}.
+     * @return the compiled table.
+     */
+    synchronized public boolean[] compile() {
+        boolean[] table = syntactic_table;
+        int i, size = CTTagVocabulary.getSyntacticTagSize();
+        if (table.length >= size) return table;
+
+        table = Arrays.copyOf(table, size);
+
+        for (i = syntactic_table.length; i < size; i++)
+            table[i] = syntactic_tags != null && syntactic_tags.matcher(CTTagVocabulary.getSyntacticTag(i)).find();
+
+        return syntactic_table = table;
     }
 
     /**
      * @return {@code true} if the specific node matches any of the tags.
      */
     public boolean matches(CTNode node) {
+        boolean[] table = syntactic_table;
+        int id = node.getSyntacticTagID();
+        if (id >= table.length) table = compile();
+        return table[id] || node.isFunctionTag(function_tag_mask);
+    }
+
+    /**
+     * @return {@code true} if the specific node matches any of the tags using the regular expression instead of the compiled table.
+     */
+    boolean matchesPattern(CTNode node) {
         return syntactic_tags != null && node.isSyntacticTag(syntactic_tags) || node.isFunctionTag(function_tags);
     }
 
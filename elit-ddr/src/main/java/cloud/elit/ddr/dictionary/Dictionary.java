@@ -22,17 +22,36 @@ import cloud.elit.ddr.util.CharUtils;
  */
 public abstract class Dictionary {
     static public final String ROOT = "dictionary/";
+    static private final ThreadLocal<char[]> LOWER_BUFFER = ThreadLocal.withInitial(() -> new char[64]);
 
+    /**
+     * The lowercase character array is a reusable per-thread buffer, and the lowercase string is created only
+     * when the original string has any uppercase character.
+     */
     public String[] tokenize(String s) {
-        char[] lcs = s.toCharArray();
-        String lower = CharUtils.toLowerCase(lcs) ? new String(lcs) : s;
-        return tokenize(s, lower, lcs);
+        int i, size = s.length();
+        char[] lcs = LOWER_BUFFER.get();
+        boolean b = false;
+        char c;
+
+        if (lcs.length < size) {
+            lcs = new char[Math.max(size, lcs.length * 2)];
+            LOWER_BUFFER.set(lcs);
+        }
+
+        for (i = 0; i < size; i++) {
+            c = s.charAt(i);
+            if ((lcs[i] = CharUtils.toLowerCase(c)) != c) b = true;
+        }
+
+        return tokenize(s, b ? new String(lcs, 0, size) : s, lcs);
     }
 
     /**
      * @param original the original string.
      * @param lower    the lowercase of the original string.
-     * @param lcs      the lowercase character array of the original string.
+     * @param lcs      the lowercase character array of the original string,
+     *                 which can be longer than the original string and must not be retained.
      */
     abstract public String[] tokenize(String original, String lower, char[] lcs);
 }
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import cloud.elit.ddr.util.CharUtils;
+import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.ddr.util.Splitter;
+import cloud.elit.ddr.util.StringConst;
+import cloud.elit.ddr.util.StringUtils;
+
+/**
+ * Aho-Corasick automaton over the entries of the dictionary resource files, which finds every occurrence of
+ * every entry in a single pass over the input; matching is case-insensitive.
+ * The entries of each type are as follows:
+ * <ul>
+ * <li>{@link DictionaryType#ABBREVIATION_PERIOD}: abbreviations followed by a period (e.g., {@code "adm."}).</li>
+ * <li>{@link DictionaryType#CURRENCY}: currencies, including the dollar prefixes followed by {@code '$'} (e.g., {@code "us$"}) as in {@link Currency}.</li>
+ * <li>{@link DictionaryType#ENGLISH_COMPOUND}: compounds without spaces (e.g., {@code "cannot"}) as in {@link Compound}.</li>
+ * <li>{@link DictionaryType#HTML_TAG}: character entities (e.g., {@code "&amp;"}) as in {@link Html}.</li>
+ * <li>others: the lines of the resource files.</li>
+ * </ul>
+ * The automaton is immutable and thread-safe once built.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class DictionaryScanner {
+    /**
+     * The arcs of node {@code n} are in {@code [arc_begin[n], arc_begin[n+1])}, sorted by their labels.
+     */
+    private final int[] arc_begin;
+    private final char[] labels;
+    private final int[] targets;
+    /**
+     * {@code fail[n]} is the node of the longest proper suffix of node {@code n}.
+     */
+    private final int[] fail;
+    /**
+     * {@code output_link[n]} is the node of the longest proper suffix of node {@code n} that ends any entry; {@code -1} if none.
+     */
+    private final int[] output_link;
+    /**
+     * The entries ending at node {@code n} are in {@code outputs[output_begin[n], output_begin[n+1])}.
+     */
+    private final int[] output_begin;
+    private final int[] outputs;
+    private final DictionaryType[] entry_types;
+    private final int[] entry_lengths;
+
+    /**
+     * Builds the automaton from the resource files of all types.
+     */
+    public DictionaryScanner() {
+        this(DictionaryType.values());
+    }
+
+    /**
+     * Builds the automaton from the resource files of the specific types.
+     */
+    public DictionaryScanner(DictionaryType... types) {
+        this(loadEntries(types));
+    }
+
+    /**
+     * @param entries the entries of each type, which are matched case-insensitively.
+     */
+    public DictionaryScanner(Map<DictionaryType, ? extends Collection<String>> entries) {
+        List<TreeMap<Character, Integer>> nodes = new ArrayList<>();
+        List<List<Integer>> node_outputs = new ArrayList<>();
+        List<DictionaryType> types = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        addNode(nodes, node_outputs);
+
+        for (Map.Entry<DictionaryType, ? extends Collection<String>> e : entries.entrySet()) {
+            for (String entry : e.getValue()) {
+                if (entry.isEmpty()) continue;
+                int curr = 0;
+
+                for (int i = 0; i < entry.length(); i++) {
+                    char c = CharUtils.toLowerCase(entry.charAt(i));
+                    Integer next = nodes.get(curr).get(c);
+
+                    if (next == null) {
+                        next = addNode(nodes, node_outputs);
+                        nodes.get(curr).put(c, next);
+                    }
+
+                    curr = next;
+                }
+
+                if (!containsType(node_outputs.get(curr), types, e.getKey())) {
+                    node_outputs.get(curr).add(types.size());
+                    types.add(e.getKey());
+                    lengths.add(entry.length());
+                }
+            }
+        }
+
+        int size = nodes.size(), arcs = nodes.stream().mapToInt(TreeMap::size).sum();
+        arc_begin = new int[size + 1];
+        labels = new char[arcs];
+        targets = new int[arcs];
+        fail = new int[size];
+        output_link = new int[size];
+        output_begin = new int[size + 1];
+        outputs = new int[types.size()];
+        entry_types = types.toArray(new DictionaryType[0]);
+        entry_lengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+
+        for (int n = 0, a = 0, o = 0; n < size; n++) {
+            arc_begin[n] = a;
+            output_begin[n] = o;
+
+            for (Map.Entry<Character, Integer> e : nodes.get(n).entrySet()) {
+                labels[a] = e.getKey();
+                targets[a++] = e.getValue();
+            }
+
+            for (int id : node_outputs.get(n))
+                outputs[o++] = id;
+
+            arc_begin[n + 1] = a;
+            output_begin[n + 1] = o;
+        }
+
+        initFailureLinks();
+    }
+
+    static private int addNode(List<TreeMap<Character, Integer>> nodes, List<List<Integer>> node_outputs) {
+        nodes.add(new TreeMap<>());
+        node_outputs.add(new ArrayList<>());
+        return nodes.size() - 1;
+    }
+
+    /**
+     * An entry may appear more than once in the same type after case folding (e.g., {@code "w/o"} and {@code "W/O"} in {@link DictionaryType#PRESERVE}).
+     */
+    static private boolean containsType(List<Integer> ids, List<DictionaryType> types, DictionaryType type) {
+        for (int id : ids) {
+            if (types.get(id) == type)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Assigns the failure and output links in the breadth-first order.
+     */
+    private void initFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        int a, u, v, f;
+        output_link[0] = -1;
+
+        for (a = arc_begin[0]; a < arc_begin[1]; a++) {
+            v = targets[a];
+            fail[v] = 0;
+            output_link[v] = -1;
+            queue.add(v);
+        }
+
+        while (!queue.isEmpty()) {
+            u = queue.poll();
+
+            for (a = arc_begin[u]; a < arc_begin[u + 1]; a++) {
+                v = targets[a];
+                f = fail[u];
+                while (f != 0 && getChild(f, labels[a]) < 0) f = fail[f];
+                f = getChild(f, labels[a]);
+                fail[v] = f < 0 ? 0 : f;
+                output_link[v] = hasOutputs(fail[v]) ? fail[v] : output_link[fail[v]];
+                queue.add(v);
+            }
+        }
+    }
+
+//  =================================== Resources ===================================
+
+    /**
+     * @return the entries of the specific types read from the resource files.
+     * @see DictionaryScanner
+     */
+    static public Map<DictionaryType, Set<String>> loadEntries(DictionaryType... types) {
+        Map<DictionaryType, Set<String>> map = new EnumMap<>(DictionaryType.class);
+
+        for (DictionaryType type : types) {
+            Set<String> entries = new LinkedHashSet<>();
+
+            switch (type) {
+                case ABBREVIATION_PERIOD:
+                    for (String s : readLines(type)) entries.add(s + StringConst.PERIOD);
+                    break;
+                case CURRENCY:
+                    entries.addAll(readLines(type));
+                    for (String s : readLines(DictionaryType.CURRENCY_DOLLAR)) entries.add(s + StringConst.DOLLAR);
+                    break;
+                case ENGLISH_COMPOUND:
+                    for (String s : readLines(type)) entries.add(StringUtils.removeAll(s, ' '));
+                    break;
+                case HTML_TAG:
+                    for (String s : readLines(type)) entries.add("&" + Splitter.splitTabs(s)[0] + ";");
+                    break;
+                default:
+                    entries.addAll(readLines(type));
+            }
+
+            map.put(type, entries);
+        }
+
+        return map;
+    }
+
+    static private List<String> readLines(DictionaryType type) {
+        List<String> lines = new ArrayList<>();
+        String line;
+
+        try (BufferedReader reader = IOUtils.createBufferedReader(IOUtils.getInputStreamsFromResource(type.getResource()))) {
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) lines.add(line);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return lines;
+    }
+
+//  =================================== Scan ===================================
+
+    /**
+     * @return the number of entries in this automaton, where an entry of multiple types is counted once per type.
+     */
+    public int size() {
+        return entry_types.length;
+    }
+
+    /**
+     * @return all matches in the character sequence ordered by their ending indices, then by their lengths in descending order.
+     */
+    public List<Match> scan(CharSequence s) {
+        List<Match> matches = new ArrayList<>();
+        scan(s, 0, s.length(), (type, beginIndex, endIndex) -> matches.add(new Match(type, beginIndex, endIndex)));
+        return matches;
+    }
+
+    /**
+     * Finds all matches in the specific range of the character sequence, which are passed to the handler
+     * as soon as they are found; this method allocates nothing.
+     * @param beginIndex the beginning index, inclusive.
+     * @param endIndex   the ending index, exclusive.
+     */
+    public void scan(CharSequence s, int beginIndex, int endIndex, MatchHandler handler) {
+        int i, n, o, node = 0, next;
+        char c;
+
+        for (i = beginIndex; i < endIndex; i++) {
+            c = CharUtils.toLowerCase(s.charAt(i));
+            while ((next = getChild(node, c)) < 0 && node != 0) node = fail[node];
+            node = next < 0 ? 0 : next;
+
+            for (n = hasOutputs(node) ? node : output_link[node]; n >= 0; n = output_link[n]) {
+                for (o = output_begin[n]; o < output_begin[n + 1]; o++)
+                    handler.match(entry_types[outputs[o]], i + 1 - entry_lengths[outputs[o]], i + 1);
+            }
+        }
+    }
+
+    private boolean hasOutputs(int node) {
+        return output_begin[node] < output_begin[node + 1];
+    }
+
+    /**
+     * @return the ID of the child node if exists; otherwise, {@code -1}.
+     */
+    private int getChild(int node, char c) {
+        int low = arc_begin[node], high = arc_begin[node + 1] - 1, mid;
+
+        while (low <= high) {
+            mid = (low + high) >>> 1;
+
+            if (labels[mid] < c) low = mid + 1;
+            else if (labels[mid] > c) high = mid - 1;
+            else return targets[mid];
+        }
+
+        return -1;
+    }
+
+    @FunctionalInterface
+    public interface MatchHandler {
+        /**
+         * @param beginIndex the beginning index of the match, inclusive.
+         * @param endIndex   the ending index of the match, exclusive.
+         */
+        void match(DictionaryType type, int beginIndex, int endIndex);
+    }
+
+    static public class Match {
+        private final DictionaryType type;
+        private final int begin_index;
+        private final int end_index;
+
+        public Match(DictionaryType type, int beginIndex, int endIndex) {
+            this.type = type;
+            begin_index = beginIndex;
+            end_index = endIndex;
+        }
+
+        public DictionaryType getType() {
+            return type;
+        }
+
+        public int getBeginIndex() {
+            return begin_index;
+        }
+
+        public int getEndIndex() {
+            return end_index;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Match)) return false;
+            Match m = (Match) o;
+            return type == m.type && begin_index == m.begin_index && end_index == m.end_index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * type.hashCode() + begin_index) + end_index;
+        }
+
+        @Override
+        public String toString() {
+            return type + "[" + begin_index + ", " + end_index + ")";
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.dictionary;
+
+/**
+ * Types of the entries in the dictionary resource files.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ * @see DictionaryScanner
+ */
+public enum DictionaryType {
+    ABBREVIATION_PERIOD("abbreviation-period.txt"),
+    CURRENCY("currency.txt"),
+    CURRENCY_DOLLAR("currency-dollar.txt"),
+    EMOTICON("emoticons.txt"),
+    ENGLISH_COMPOUND("english-compounds.txt"),
+    ENGLISH_HYPHEN_PREFIX("english-hyphen-prefix.txt"),
+    ENGLISH_HYPHEN_SUFFIX("english-hyphen-suffix.txt"),
+    HTML_TAG("html-tags.txt"),
+    NON_CAPITAL("non-capitals.txt"),
+    PRESERVE("preserve.txt"),
+    UNIT("units.txt");
+
+    private final String resource;
+
+    DictionaryType(String filename) {
+        resource = Dictionary.ROOT + filename;
+    }
+
+    /**
+     * @return the path of the resource file.
+     */
+    public String getResource() {
+        return resource;
+    }
+}
@@ -18,7 +18,7 @@ package cloud.elit.ddr.dictionary;
 import java.io.InputStream;
 import java.util.Set;
 import java.util.regex.Matcher;
-import cloud.elit.ddr.util.CharAffixTree;
+import cloud.elit.ddr.util.CompactCharAffixTree;
 import cloud.elit.ddr.util.DSUtils;
 import cloud.elit.ddr.util.IOUtils;
 import cloud.elit.ddr.util.MetaUtils;
@@ -28,24 +28,18 @@ import cloud.elit.ddr.util.StringUtils;
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public class Emoticon {
-    private Set<String> s_emoticon;
-    private CharAffixTree t_prefix;
-    private CharAffixTree t_suffix;
+    private final Set<String> s_emoticon;
+    private final CompactCharAffixTree t_prefix;
+    private final CompactCharAffixTree t_suffix;
 
     public Emoticon() {
-        init(IOUtils.getInputStreamsFromResource(Dictionary.ROOT + "emoticons.txt"));
+        this(IOUtils.getInputStreamsFromResource(Dictionary.ROOT + "emoticons.txt"));
     }
 
     public Emoticon(InputStream in) {
-        init(in);
-    }
-
-    public void init(InputStream in) {
         s_emoticon = DSUtils.createStringHashSet(in, true, false);
-        t_prefix = new CharAffixTree(true);
-        t_prefix.addAll(s_emoticon);
-        t_suffix = new CharAffixTree(false);
-        t_suffix.addAll(s_emoticon);
+        t_prefix = new CompactCharAffixTree(true, s_emoticon);
+        t_suffix = new CompactCharAffixTree(false, s_emoticon);
     }
 
     public int[] getEmoticonRange(String s) {
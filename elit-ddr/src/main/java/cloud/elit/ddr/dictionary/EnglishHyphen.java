@@ -21,6 +21,7 @@ import java.util.Set;
 import cloud.elit.ddr.util.CharUtils;
 import cloud.elit.ddr.util.DSUtils;
 import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.ddr.util.StringUtils;
 
 /**
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
@@ -85,4 +86,25 @@ public class EnglishHyphen {
 
         return false;
     }
+
+    /**
+     * Same as {@link #preserveHyphen(char[], int)} on {@code s.substring(begin, end)} without copying the characters,
+     * where the prefix and the suffix are looked up only if the hyphen is not surrounded by another hyphen and a vowel.
+     * @param index the index of the hyphen in {@code s}.
+     */
+    public boolean preserveHyphen(String s, int begin, int index, int end) {
+        if (!CharUtils.isHyphen(s.charAt(index)) || (index + 1 < end && !CharUtils.isAlphabet(s.charAt(index + 1))))
+            return false;
+
+        if (index + 2 < end && CharUtils.isVowel(s.charAt(index + 1)) && CharUtils.isHyphen(s.charAt(index + 2)))
+            return true;
+
+        if (begin <= index - 2 && CharUtils.isVowel(s.charAt(index - 1)) && CharUtils.isHyphen(s.charAt(index - 2)))
+            return true;
+
+        if (index > begin && isPrefix(StringUtils.toLowerCase(s.substring(begin, index))))
+            return true;
+
+        return index + 1 < end && isSuffix(StringUtils.toLowerCase(s.substring(index + 1, end)));
+    }
 }
@@ -17,7 +17,7 @@
 package cloud.elit.ddr.lambda;
 
 import java.io.ByteArrayInputStream;
-import java.util.StringJoiner;
+import java.io.IOException;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import cloud.elit.ddr.constituency.CTReader;
@@ -26,6 +26,7 @@ import cloud.elit.ddr.conversion.C2DConverter;
 import cloud.elit.ddr.conversion.EnglishC2DConverter;
 import cloud.elit.ddr.util.Language;
 import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.TSVWriter;
 
 public class C2DLambdaHandler implements RequestHandler<C2DLambdaInput, String> {
     private C2DConverter converter;
@@ -37,18 +38,24 @@ public class C2DLambdaHandler implements RequestHandler<C2DLambdaInput, String>
     @Override
     public String handleRequest(C2DLambdaInput in, Context ctx) {
         CTReader reader = new CTReader(new ByteArrayInputStream(in.getTrees().getBytes()), Language.ENGLISH);
-        StringJoiner join = new StringJoiner("\n\n");
+        StringBuilder build = new StringBuilder();
+        TSVWriter writer = new TSVWriter(build);
         Sentence dTree;
         CTTree cTree;
 
-        while ((cTree = reader.next()) != null) {
-            if (in.isNorm()) cTree.normalizeIndices();
-            dTree = converter.toDependencyGraph(cTree);
-            dTree.setNamedEntities(null);
-            join.add(dTree.toTSV());
+        try {
+            for (int n = 0; (cTree = reader.next()) != null; n++) {
+                if (in.isNorm()) cTree.normalizeIndices();
+                dTree = converter.toDependencyGraph(cTree);
+                dTree.setNamedEntities(null);
+                if (n > 0) build.append("\n\n");
+                writer.write(dTree);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
         }
-        
+
         reader.close();
-        return join.toString();
+        return build.toString();
     }
 }
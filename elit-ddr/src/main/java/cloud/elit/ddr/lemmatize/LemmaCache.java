@@ -0,0 +1,217 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.lemmatize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded thread-safe cache of lemmas keyed by pairs of word-forms and part-of-speech tags.
+ * Entries are spread over segments, each guarded by its own lock, and evicted per segment by {@link Eviction}.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class LemmaCache {
+    static public final int DEFAULT_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    /**
+     * {@code 32 - log2(segments.length)}; the segment is picked from the high bits of the mixed hash.
+     */
+    private final int segment_shift;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public enum Eviction {
+        /**
+         * Evicts the least recently accessed entry.
+         */
+        LRU,
+        /**
+         * Evicts the least recently inserted entry; lookups do not reorder entries, so they are cheaper than {@link #LRU}.
+         */
+        FIFO
+    }
+
+    public LemmaCache(int capacity) {
+        this(capacity, Eviction.LRU);
+    }
+
+    public LemmaCache(int capacity, Eviction eviction) {
+        this(capacity, eviction, DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * @param capacity the maximum number of entries, divided among the segments so their capacities sum to it.
+     * @param segments the number of segments, rounded down to a power of two and at most {@code capacity}.
+     */
+    public LemmaCache(int capacity, Eviction eviction, int segments) {
+        if (capacity <= 0 || segments <= 0)
+            throw new IllegalArgumentException("The capacity and the number of segments must be positive: " + capacity + ", " + segments);
+
+        int size = Integer.highestOneBit(Math.min(segments, capacity));
+        int segment_capacity = capacity / size, remainder = capacity % size;
+
+        this.segments = new Segment[size];
+        segment_shift = 32 - Integer.numberOfTrailingZeros(size);
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+
+        for (int i = 0; i < size; i++)
+            this.segments[i] = new Segment(i < remainder ? segment_capacity + 1 : segment_capacity, eviction == Eviction.LRU);
+    }
+
+    /**
+     * @return the cached lemma of the word-form and the part-of-speech tag if exists; otherwise, {@code null}.
+     */
+    public String get(String form, String pos) {
+        Key key = new Key(form, pos);
+        Segment segment = getSegment(key);
+        String lemma;
+
+        synchronized (segment) {
+            lemma = segment.get(key);
+        }
+
+        if (lemma != null) hits.increment();
+        else misses.increment();
+        return lemma;
+    }
+
+    public void put(String form, String pos, String lemma) {
+        Key key = new Key(form, pos);
+        Segment segment = getSegment(key);
+
+        synchronized (segment) {
+            segment.put(key, lemma);
+        }
+    }
+
+    private Segment getSegment(Key key) {
+        return segments[getSegmentIndex(key)];
+    }
+
+    /**
+     * Picks the segment from the high bits of the hash mixed by the golden ratio, whereas each segment
+     * picks its buckets from the low bits, so the keys in one segment still spread over all of its buckets.
+     */
+    int getSegmentIndex(Key key) {
+        return (int) (((key.hash * 0x9E3779B9) & 0xFFFFFFFFL) >>> segment_shift);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+//  ============================== Statistics ==============================
+
+    /**
+     * @return the number of entries in this cache.
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of hits to lookups; {@code 0} if no lookup has been made.
+     */
+    public double getHitRate() {
+        long h = getHits(), total = h + getMisses();
+        return total > 0 ? (double) h / total : 0;
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d, hits=%d, misses=%d, evictions=%d, hit_rate=%.4f", size(), getHits(), getMisses(), getEvictions(), getHitRate());
+    }
+
+    /**
+     * The pair of a word-form and a part-of-speech tag, whose hash code is combined from the cached hash codes of the strings.
+     */
+    static class Key {
+        private final String form;
+        private final String pos;
+        private final int hash;
+
+        Key(String form, String pos) {
+            this.form = form;
+            this.pos = pos;
+            hash = 31 * form.hashCode() + pos.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return hash == k.hash && form.equals(k.form) && pos.equals(k.pos);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private class Segment extends LinkedHashMap<Key, String> {
+        private static final long serialVersionUID = 4925018329106574012L;
+        private final int capacity;
+
+        Segment(int capacity, boolean accessOrder) {
+            super(Math.min(capacity, 1 << 12) * 4 / 3 + 1, 0.75f, accessOrder);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            if (size() <= capacity) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
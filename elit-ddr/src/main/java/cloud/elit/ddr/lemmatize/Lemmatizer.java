@@ -15,9 +15,50 @@
  */
 package cloud.elit.ddr.lemmatize;
 
+import cloud.elit.sdk.structure.Document;
+import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.node.NLPNode;
+
 /**
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public abstract class Lemmatizer {
     public abstract String getLemma(String form, String pos);
+
+    /**
+     * @param forms the word-forms.
+     * @param tags  {@code tags[i]} is the part-of-speech tag of {@code forms[i]}.
+     * @return the lemmas of the word-forms.
+     */
+    public String[] getLemmas(String[] forms, String[] tags) {
+        if (forms.length != tags.length)
+            throw new IllegalArgumentException("The numbers of forms and tags do not match: " + forms.length + " != " + tags.length);
+
+        String[] lemmas = new String[forms.length];
+
+        for (int i = 0; i < forms.length; i++)
+            lemmas[i] = getLemma(forms[i], tags[i]);
+
+        return lemmas;
+    }
+
+    /**
+     * Sets the lemma of every node in the sentence given its token and part-of-speech tag.
+     */
+    public void lemmatize(Sentence sentence) {
+        for (NLPNode node : sentence)
+            node.setLemma(getLemma(node.getToken(), node.getPartOfSpeechTag()));
+    }
+
+    public void lemmatize(Document document) {
+        lemmatize(document, false);
+    }
+
+    /**
+     * @param parallel if {@code true}, the sentences are lemmatized in parallel by the common fork-join pool,
+     *                 in which case this lemmatizer must be thread-safe.
+     */
+    public void lemmatize(Document document, boolean parallel) {
+        (parallel ? document.get().parallelStream() : document.get().stream()).forEach(this::lemmatize);
+    }
 }
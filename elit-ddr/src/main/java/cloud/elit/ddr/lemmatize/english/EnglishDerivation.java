@@ -23,13 +23,9 @@ import cloud.elit.ddr.lemmatize.util.AbstractAffixMatcher;
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public class EnglishDerivation {
-    List<AbstractAffixMatcher> suffix_matchers;
+    final List<AbstractAffixMatcher> suffix_matchers;
 
     public EnglishDerivation(List<AbstractAffixMatcher> affixMatchers) {
-        init(affixMatchers);
-    }
-
-    private void init(List<AbstractAffixMatcher> affixMatchers) {
         suffix_matchers = affixMatchers;
 
         if (suffix_matchers == null)
@@ -19,22 +19,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import cloud.elit.ddr.lemmatize.util.AbstractAffixMatcher;
+import cloud.elit.ddr.lemmatize.util.AffixReplacerTrie;
 
 /**
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public class EnglishInflection {
-    String base_pos;
-    Set<String> base_set;
-    String exception_pos;
-    Map<String, String> exception_map;
-    List<AbstractAffixMatcher> suffix_matchers;
+    final String base_pos;
+    final Set<String> base_set;
+    final Map<String, String> exception_map;
+    final List<AbstractAffixMatcher> suffix_matchers;
+    final AffixReplacerTrie suffix_trie;
 
     public EnglishInflection(String basePOS, Set<String> baseSet, Map<String, String> exceptionMap, List<AbstractAffixMatcher> affixMatchers) {
-        init(basePOS, baseSet, exceptionMap, affixMatchers);
-    }
-
-    private void init(String basePOS, Set<String> baseSet, Map<String, String> exceptionMap, List<AbstractAffixMatcher> affixMatchers) {
         base_pos = basePOS;
         base_set = baseSet;
         exception_map = exceptionMap;
@@ -44,6 +41,8 @@ public class EnglishInflection {
             throw new IllegalArgumentException("The base set must not be null.");
         else if (suffix_matchers == null)
             throw new IllegalArgumentException("The suffix matcher list must not be null.");
+
+        suffix_trie = new AffixReplacerTrie(suffix_matchers);
     }
 
     public String getBasePOS() {
@@ -90,14 +89,11 @@ public class EnglishInflection {
         return null;
     }
 
+    /**
+     * @return the base form by the first applicable suffix rule in {@link #getSuffixMatchers()} if exists; otherwise, {@code null}.
+     * @see AffixReplacerTrie
+     */
     public String getBaseFormFromSuffixes(String form, String pos) {
-        String base;
-
-        for (AbstractAffixMatcher matcher : suffix_matchers) {
-            base = matcher.getBaseForm(base_set, form, pos);
-            if (base != null) return base;
-        }
-
-        return null;
+        return suffix_trie.getBaseForm(base_set, form, pos);
     }
 }
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import org.w3c.dom.Element;
 import cloud.elit.ddr.constituency.CTNode;
+import cloud.elit.ddr.lemmatize.LemmaCache;
 import cloud.elit.ddr.lemmatize.Lemmatizer;
 import cloud.elit.ddr.lemmatize.util.AbstractAffixMatcher;
 import cloud.elit.ddr.util.DSUtils;
@@ -33,11 +34,17 @@ import cloud.elit.ddr.util.IOUtils;
 import cloud.elit.ddr.util.MetaConst;
 import cloud.elit.ddr.util.PTBLib;
 import cloud.elit.ddr.util.Splitter;
+import cloud.elit.ddr.util.StringAutomaton;
 import cloud.elit.ddr.util.StringConst;
 import cloud.elit.ddr.util.StringUtils;
 import cloud.elit.ddr.util.XMLUtils;
+import cloud.elit.sdk.structure.Sentence;
+import cloud.elit.sdk.structure.node.NLPNode;
 
 /**
+ * This lemmatizer is thread-safe; all dictionaries are read-only once constructed.
+ * The base and exception lists are queried from their compiled lexicons ({@link StringAutomaton}) when they are on the classpath,
+ * which are memory-mapped from the file system so they are shared across JVMs through the page cache.
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public class EnglishLemmatizer extends Lemmatizer {
@@ -62,21 +69,25 @@ public class EnglishLemmatizer extends Lemmatizer {
     final String ADJECTIVE_POS = "JJ";
     final String ADVERB_POS = "RB";
 
-    private EnglishInflection inf_verb;
-    private EnglishInflection inf_noun;
-    private EnglishInflection inf_adjective;
-    private EnglishInflection inf_adverb;
-    private EnglishDerivation der_n2v;
+    private final EnglishInflection inf_verb;
+    private final EnglishInflection inf_noun;
+    private final EnglishInflection inf_adjective;
+    private final EnglishInflection inf_adverb;
+    private final EnglishDerivation der_n2v;
 
     /**
      * Abbreviation replacement rules
      */
-    private Map<String, String> rule_abbreviation;
-    private Set<String> base_cardinal;
+    private final Map<String, String> rule_abbreviation;
+    private final Set<String> base_cardinal;
     /**
      * Ordinal base-forms
      */
-    private Set<String> base_ordinal;
+    private final Set<String> base_ordinal;
+    /**
+     * If not {@code null}, lemmas are cached by {@link #getLemma(String, String)}.
+     */
+    private volatile LemmaCache cache;
 
 //	====================================== CONSTRUCTORS ======================================
 
@@ -87,35 +98,42 @@ public class EnglishLemmatizer extends Lemmatizer {
         Element inflection = XMLUtils.getDocumentElement(IOUtils.getInputStreamsFromResource(INFLECTION_SUFFIX));
         Element derivationN2V = XMLUtils.getDocumentElement(IOUtils.getInputStreamsFromResource(DERIVATION_SUFFIX_N2V));
 
-        try {
-            inf_verb = getInflectionRules(inflection, VERB, VERB_POS);
-            inf_noun = getInflectionRules(inflection, NOUN, NOUN_POS);
-            inf_adjective = getInflectionRules(inflection, ADJECTIVE, ADJECTIVE_POS);
-            inf_adverb = getInflectionRules(inflection, ADVERB, ADVERB_POS);
+        inf_verb = getInflectionRules(inflection, VERB, VERB_POS);
+        inf_noun = getInflectionRules(inflection, NOUN, NOUN_POS);
+        inf_adjective = getInflectionRules(inflection, ADJECTIVE, ADJECTIVE_POS);
+        inf_adverb = getInflectionRules(inflection, ADVERB, ADVERB_POS);
 
-            der_n2v = getDerivationalRules(derivationN2V);
+        der_n2v = getDerivationalRules(derivationN2V);
 
-            base_cardinal = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(CARDINAL_BASE));
-            base_ordinal = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(ORDINAL_BASE));
-            rule_abbreviation = getAbbreviationMap(IOUtils.getInputStreamsFromResource(ABBREVIATOIN_RULE));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        base_cardinal = getBaseSet(CARDINAL_BASE);
+        base_ordinal = getBaseSet(ORDINAL_BASE);
+        rule_abbreviation = getAbbreviationMap(IOUtils.getInputStreamsFromResource(ABBREVIATOIN_RULE));
     }
 
     private EnglishInflection getInflectionRules(Element eInflection, String type, String basePOS) {
         Element eAffixes = XMLUtils.getFirstElementByTagName(eInflection, type);
-        InputStream baseStream = IOUtils.getInputStreamsFromResource(ROOT + type + EXT_BASE);
-        InputStream exceptionStream = IOUtils.getInputStreamsFromResource(ROOT + type + EXT_EXCEPTION);
+        Set<String> baseSet = getBaseSet(ROOT + type + EXT_BASE);
+        Map<String, String> exceptionMap = getExceptionMap(ROOT + type + EXT_EXCEPTION);
+        List<AbstractAffixMatcher> affixMatchers = new EnglishAffixMatcherFactory().createAffixMatchers(eAffixes);
+        return new EnglishInflection(basePOS, baseSet, exceptionMap, affixMatchers);
+    }
 
-        return getInflection(baseStream, exceptionStream, eAffixes, basePOS);
+    /**
+     * @return the compiled lexicon of the resource (see {@link cloud.elit.ddr.bin.LexiconCompile}) if exists; otherwise, the set read from the resource.
+     */
+    private Set<String> getBaseSet(String path) {
+        StringAutomaton fsa = StringAutomaton.fromResource(path + StringAutomaton.EXT);
+        return (fsa != null) ? fsa.asSet() : DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(path));
     }
 
-    private EnglishInflection getInflection(InputStream baseStream, InputStream exceptionStream, Element eAffixes, String basePOS) {
-        Map<String, String> exceptionMap = (exceptionStream != null) ? DSUtils.createStringHashMap(exceptionStream, Splitter.T_SPACE) : null;
-        List<AbstractAffixMatcher> affixMatchers = new EnglishAffixMatcherFactory().createAffixMatchers(eAffixes);
-        Set<String> baseSet = DSUtils.createStringHashSet(baseStream);
-        return new EnglishInflection(basePOS, baseSet, exceptionMap, affixMatchers);
+    /**
+     * @return the compiled lexicon of the resource (see {@link cloud.elit.ddr.bin.LexiconCompile}) if exists; otherwise, the map read from the resource if exists; otherwise, {@code null}.
+     */
+    private Map<String, String> getExceptionMap(String path) {
+        StringAutomaton fsa = StringAutomaton.fromResource(path + StringAutomaton.EXT);
+        if (fsa != null) return fsa.asMap();
+        InputStream in = IOUtils.getInputStreamsFromResource(path);
+        return (in != null) ? DSUtils.createStringHashMap(in, Splitter.T_SPACE) : null;
     }
 
     private EnglishDerivation getDerivationalRules(Element eDerivation) {
@@ -123,27 +141,83 @@ public class EnglishLemmatizer extends Lemmatizer {
         return new EnglishDerivation(new EnglishAffixMatcherFactory().createAffixMatchers(eAffixes));
     }
 
-    private Map<String, String> getAbbreviationMap(InputStream stream) throws IOException {
+    private Map<String, String> getAbbreviationMap(InputStream stream) {
         BufferedReader fin = new BufferedReader(new InputStreamReader(stream));
         Map<String, String> map = new HashMap<>();
         String line, abbr, pos, key, base;
         String[] tmp;
 
-        while ((line = fin.readLine()) != null) {
-            tmp = Splitter.splitSpace(line.trim());
-            abbr = tmp[0];
-            pos = tmp[1];
-            base = tmp[2];
-            key = abbr + FIELD_DELIM + pos;
-
-            map.put(key, base);
+        try {
+            while ((line = fin.readLine()) != null) {
+                tmp = Splitter.splitSpace(line.trim());
+                abbr = tmp[0];
+                pos = tmp[1];
+                base = tmp[2];
+                key = abbr + FIELD_DELIM + pos;
+
+                map.put(key, base);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
         }
 
         return map;
     }
 
+    public LemmaCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @param cache if not {@code null}, {@link #getLemma(String, String)} looks up the cache before analyzing the word-form; the cache can be shared by lemmatizers.
+     */
+    public void setCache(LemmaCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public String getLemma(String form, String pos) {
+        return getLemma(form, pos, cache);
+    }
+
+    @Override
+    public String[] getLemmas(String[] forms, String[] tags) {
+        if (forms.length != tags.length)
+            throw new IllegalArgumentException("The numbers of forms and tags do not match: " + forms.length + " != " + tags.length);
+
+        LemmaCache cache = this.cache;
+        String[] lemmas = new String[forms.length];
+
+        for (int i = 0; i < forms.length; i++)
+            lemmas[i] = getLemma(forms[i], tags[i], cache);
+
+        return lemmas;
+    }
+
+    @Override
+    public void lemmatize(Sentence sentence) {
+        LemmaCache cache = this.cache;
+
+        for (NLPNode node : sentence)
+            node.setLemma(getLemma(node.getToken(), node.getPartOfSpeechTag(), cache));
+    }
+
+    /**
+     * @param cache read once per batch by the batch methods.
+     */
+    private String getLemma(String form, String pos, LemmaCache cache) {
+        if (cache == null) return getLemmaAux(form, pos);
+        String lemma = cache.get(form, pos);
+
+        if (lemma == null) {
+            lemma = getLemmaAux(form, pos);
+            cache.put(form, pos, lemma);
+        }
+
+        return lemma;
+    }
+
+    private String getLemmaAux(String form, String pos) {
         String lemma = StringUtils.toSimplifiedForm(form, true), t;
 
         if ((t = getAbbreviation(lemma, pos)) != null || (t = getBaseFormFromInflection(lemma, pos)) != null)
@@ -49,6 +49,10 @@ abstract public class AbstractAffixMatcher {
         l_replacers.add(replacer);
     }
 
+    public List<AbstractAffixReplacer> getReplacers() {
+        return l_replacers;
+    }
+
     /**
      * Returns (BaseMorpheme, SuffixMorphem) if exists; otherwise, {@code null}.
      * @param form the word-form in lower-case.
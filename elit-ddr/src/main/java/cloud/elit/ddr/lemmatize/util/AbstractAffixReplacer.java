@@ -36,6 +36,10 @@ abstract public class AbstractAffixReplacer {
         return s_basePOS;
     }
 
+    public String getAffixForm() {
+        return s_affixForm;
+    }
+
     /**
      * Returns the base morpheme of the word form if exists; otherwise, {@code null}.
      * @param form the word-form in lower-case.
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.lemmatize.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Trie over the reversed suffixes of all replacers in a list of suffix matchers, where each replacer is ranked by its rule order
+ * (the order of its matcher, then its order within the matcher).
+ * A backward pass over a word-form finds only the replacers whose suffixes match the form, which are then tried in the rule order,
+ * so {@link #getBaseForm(Set, String, String)} returns the same base form as trying every matcher in the list.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class AffixReplacerTrie {
+    private final AbstractAffixMatcher[] matchers;
+    private final AbstractAffixReplacer[] replacers;
+    /**
+     * {@code matcher_index[rank]} is the index of the matcher containing {@code replacers[rank]}.
+     */
+    private final int[] matcher_index;
+    private final Node root;
+
+    public AffixReplacerTrie(List<AbstractAffixMatcher> suffixMatchers) {
+        int size = suffixMatchers.stream().mapToInt(m -> m.getReplacers().size()).sum();
+        matchers = suffixMatchers.toArray(new AbstractAffixMatcher[0]);
+        replacers = new AbstractAffixReplacer[size];
+        matcher_index = new int[size];
+        root = new Node();
+
+        for (int i = 0, rank = 0; i < matchers.length; i++) {
+            for (AbstractAffixReplacer replacer : matchers[i].getReplacers()) {
+                replacers[rank] = replacer;
+                matcher_index[rank] = i;
+                add(replacer.getAffixForm(), rank++);
+            }
+        }
+    }
+
+    private void add(String suffix, int rank) {
+        Node node = root;
+
+        for (int i = suffix.length() - 1; i >= 0; i--)
+            node = node.getOrAdd(suffix.charAt(i));
+
+        node.addRank(rank);
+    }
+
+    /**
+     * @param form the word-form in lower-case.
+     * @return the base form by the first applicable replacer in the rule order if exists; otherwise, {@code null}.
+     * @see AbstractAffixMatcher#getBaseForm(Set, String, String)
+     */
+    public String getBaseForm(Set<String> baseSet, String form, String pos) {
+        int[] ranks = collectRanks(form);
+        int i, rank, matcher = -1;
+        boolean matchesPOS = false;
+        String base;
+
+        for (i = 0; i < ranks.length; i++) {
+            rank = ranks[i];
+
+            if (matcher != matcher_index[rank]) {
+                matcher = matcher_index[rank];
+                matchesPOS = matchers[matcher].matchesOriginalPOS(pos);
+            }
+
+            if (matchesPOS && (base = replacers[rank].getBaseForm(baseSet, form)) != null)
+                return base;
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the ranks of all replacers whose suffixes match the form in ascending order.
+     */
+    private int[] collectRanks(String form) {
+        int[] ranks = root.ranks;
+        Node node = root;
+
+        for (int i = form.length() - 1; i >= 0; i--) {
+            if ((node = node.get(form.charAt(i))) == null) break;
+            if (node.ranks.length == 0) continue;
+
+            if (ranks.length == 0)
+                ranks = node.ranks;
+            else {
+                ranks = Arrays.copyOf(ranks, ranks.length + node.ranks.length);
+                System.arraycopy(node.ranks, 0, ranks, ranks.length - node.ranks.length, node.ranks.length);
+                Arrays.sort(ranks);
+            }
+        }
+
+        return ranks;
+    }
+
+    static private class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int[] ranks = new int[0];
+
+        Node get(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c)
+                    return children[i];
+            }
+
+            return null;
+        }
+
+        Node getOrAdd(char c) {
+            Node node = get(c);
+            if (node != null) return node;
+
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            labels[labels.length - 1] = c;
+            return children[children.length - 1] = new Node();
+        }
+
+        void addRank(int rank) {
+            ranks = Arrays.copyOf(ranks, ranks.length + 1);
+            ranks[ranks.length - 1] = rank;
+        }
+    }
+}
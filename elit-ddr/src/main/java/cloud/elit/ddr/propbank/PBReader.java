@@ -16,8 +16,6 @@
 package cloud.elit.ddr.propbank;
 
 import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -25,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import cloud.elit.ddr.constituency.CTIndex;
 import cloud.elit.ddr.constituency.CTReader;
 import cloud.elit.ddr.constituency.CTTree;
 import cloud.elit.ddr.util.StringConst;
@@ -103,6 +102,8 @@ public class PBReader {
     }
 
     /**
+     * Trees are retrieved through the tree index of each Treebank file (see {@link CTIndex}),
+     * so only the trees associated with the instances get parsed.
      * @param treeDir   the Treebank directory path.
      * @return the sorted list of instances including constituent trees associated with them.
      */
@@ -118,15 +119,13 @@ public class PBReader {
                 treeFile = instance.getTreePath();
                 treeID = -1;
                 reader.close();
-                try {
-                    reader.open(new FileInputStream(treeDir + StringConst.FW_SLASH + treeFile));
-                } catch (FileNotFoundException e) {
-                    e.printStackTrace();
-                }
+                reader.setIndex(CTIndex.open(treeDir + StringConst.FW_SLASH + treeFile));
             }
 
-            for (; treeID < instance.getTreeID(); treeID++)
-                tree = reader.next();
+            if (treeID != instance.getTreeID()) {
+                treeID = instance.getTreeID();
+                tree = reader.get(treeID);
+            }
 
             if (normalize) Objects.requireNonNull(tree).normalizeIndices();
             instance.setTree(tree);
@@ -20,6 +20,7 @@ import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
 
 /**
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ * @see CompactCharAffixTree
  */
 public class CharAffixTree {
     private CharAffixNode n_root;
@@ -85,7 +86,6 @@ public class CharAffixTree {
 
     public int getAffixIndex(String s, boolean minimum) {
         int i, beginIndex, direction, index = -1, len = s.length();
-        char[] cs = s.toCharArray();
         CharAffixNode curr = n_root;
 
         if (b_prefix) {
@@ -97,7 +97,7 @@ public class CharAffixTree {
         }
 
         for (i = beginIndex; 0 <= i && i < len; i += direction) {
-            curr = curr.get(cs[i]);
+            curr = curr.get(s.charAt(i));
             if (curr == null) break;
 
             if (curr.isEndState()) {
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable array-backed version of {@link CharAffixTree}.
+ * The children of each node are stored contiguously in {@link #labels} sorted by their characters,
+ * so lookups are binary searches over primitive arrays and allocate nothing.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class CompactCharAffixTree {
+    private final boolean b_prefix;
+    /**
+     * The arcs of node {@code n} are in {@code [arc_begin[n], arc_begin[n+1])}.
+     */
+    private final int[] arc_begin;
+    private final char[] labels;
+    private final int[] targets;
+    private final boolean[] end_states;
+
+    public CompactCharAffixTree(boolean prefix, String[] array) {
+        this(prefix, Arrays.asList(array));
+    }
+
+    public CompactCharAffixTree(boolean prefix, Collection<String> col) {
+        List<TreeMap<Character, Integer>> nodes = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        nodes.add(new TreeMap<>());
+        ends.add(false);
+        b_prefix = prefix;
+
+        for (String s : col) {
+            int curr = 0, len = s.length();
+
+            for (int k = 0; k < len; k++) {
+                char c = s.charAt(prefix ? k : len - k - 1);
+                Integer next = nodes.get(curr).get(c);
+
+                if (next == null) {
+                    next = nodes.size();
+                    nodes.get(curr).put(c, next);
+                    nodes.add(new TreeMap<>());
+                    ends.add(false);
+                }
+
+                curr = next;
+            }
+
+            ends.set(curr, true);
+        }
+
+        int arcs = nodes.stream().mapToInt(TreeMap::size).sum(), i = 0, n;
+        arc_begin = new int[nodes.size() + 1];
+        labels = new char[arcs];
+        targets = new int[arcs];
+        end_states = new boolean[nodes.size()];
+
+        for (n = 0; n < nodes.size(); n++) {
+            arc_begin[n] = i;
+            end_states[n] = ends.get(n);
+
+            for (Map.Entry<Character, Integer> e : nodes.get(n).entrySet()) {
+                labels[i] = e.getKey();
+                targets[i++] = e.getValue();
+            }
+        }
+
+        arc_begin[n] = i;
+    }
+
+    public boolean isPrefix() {
+        return b_prefix;
+    }
+
+    /**
+     * @return the number of nodes in this tree, including the root.
+     */
+    public int size() {
+        return end_states.length;
+    }
+
+    /**
+     * @see CharAffixTree#getAffixIndex(String, boolean)
+     */
+    public int getAffixIndex(CharSequence s, boolean minimum) {
+        return getAffixIndex(s, 0, s.length(), minimum);
+    }
+
+    /**
+     * Finds the longest (or shortest if {@code minimum}) affix in the specific range of the character sequence,
+     * where a prefix is matched from {@code beginIndex} and a suffix is matched from {@code endIndex - 1}.
+     * @param beginIndex the beginning index, inclusive.
+     * @param endIndex   the ending index, exclusive.
+     * @return the index of the last character of the affix in the character sequence, which is where a prefix ends
+     * and where a suffix begins; {@code -1} if no affix is found.
+     */
+    public int getAffixIndex(CharSequence s, int beginIndex, int endIndex, boolean minimum) {
+        int i, node = 0, index = -1, direction = b_prefix ? 1 : -1;
+
+        for (i = b_prefix ? beginIndex : endIndex - 1; beginIndex <= i && i < endIndex; i += direction) {
+            if ((node = getChild(node, s.charAt(i))) < 0) break;
+
+            if (end_states[node]) {
+                index = i;
+                if (minimum) break;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * @return {@code true} if the specific range of the character sequence is an affix in this tree.
+     */
+    public boolean contains(CharSequence s, int beginIndex, int endIndex) {
+        int i, node = 0;
+
+        for (i = beginIndex; i < endIndex; i++) {
+            if ((node = getChild(node, s.charAt(b_prefix ? i : endIndex - 1 - i + beginIndex))) < 0)
+                return false;
+        }
+
+        return end_states[node];
+    }
+
+    public boolean contains(CharSequence s) {
+        return contains(s, 0, s.length());
+    }
+
+    /**
+     * @return the ID of the child node if exists; otherwise, {@code -1}.
+     */
+    private int getChild(int node, char c) {
+        int low = arc_begin[node], high = arc_begin[node + 1] - 1, mid;
+
+        while (low <= high) {
+            mid = (low + high) >>> 1;
+
+            if (labels[mid] < c) low = mid + 1;
+            else if (labels[mid] > c) high = mid - 1;
+            else return targets[mid];
+        }
+
+        return -1;
+    }
+}
@@ -26,7 +26,7 @@ public class MetaUtils {
 
     static public final String[] PROTOCOLS = {"http://", "https://", "https://", "ftp://", "sftp://"};
     static public final Pattern EMOTICON = Pattern.compile("[!|;:#%][-]*[()\\[\\]{}|<>]+");
-    static public final CharAffixTree FILE_EXTENSION = new CharAffixTree(false, new String[]{"3gp", "7z", "ace", "ai", "aif", "aiff", "amr", "asf", "asp", "aspx", "asx", "avi", "bat", "bin", "bmp", "bup", "cab", "cbr", "cda", "cdl", "cdr", "chm", "dat", "divx", "dll", "dmg", "doc", "dss", "dvf", "dwg", "eml", "eps", "exe", "fla", "flv", "gif", "gz", "hqx", "htm", "html", "shtml", "ifo", "indd", "iso", "jar", "jsp", "jpg", "jpeg", "lnk", "log", "m4a", "m4b", "m4p", "m4v", "mcd", "mdb", "mid", "mov", "mp2", "mp3", "mp4", "mpg", "mpeg", "msi", "mswmm", "ogg", "pdf", "php", "png", "pps", "ppt", "ps", "psd", "pst", "ptb", "pub", "qbb", "qbw", "qxd", "ram", "rar", "rm", "rmvb", "rtf", "sea", "ses", "sit", "sitx", "sql", "ss", "swf", "tgz", "tif", "torrent", "ttf", "txt", "vcd", "vob", "wav", "wma", "wmv", "wpd", "wps", "xls", "xml", "xtm", "zip"});
+    static public final CompactCharAffixTree FILE_EXTENSION = new CompactCharAffixTree(false, new String[]{"3gp", "7z", "ace", "ai", "aif", "aiff", "amr", "asf", "asp", "aspx", "asx", "avi", "bat", "bin", "bmp", "bup", "cab", "cbr", "cda", "cdl", "cdr", "chm", "dat", "divx", "dll", "dmg", "doc", "dss", "dvf", "dwg", "eml", "eps", "exe", "fla", "flv", "gif", "gz", "hqx", "htm", "html", "shtml", "ifo", "indd", "iso", "jar", "jsp", "jpg", "jpeg", "lnk", "log", "m4a", "m4b", "m4p", "m4v", "mcd", "mdb", "mid", "mov", "mp2", "mp3", "mp4", "mpg", "mpeg", "msi", "mswmm", "ogg", "pdf", "php", "png", "pps", "ppt", "ps", "psd", "pst", "ptb", "pub", "qbb", "qbw", "qxd", "ram", "rar", "rm", "rmvb", "rtf", "sea", "ses", "sit", "sitx", "sql", "ss", "swf", "tgz", "tif", "torrent", "ttf", "txt", "vcd", "vob", "wav", "wma", "wmv", "wpd", "wps", "xls", "xml", "xtm", "zip"});
 
     static public final Pattern HYPERLINK = Pattern.compile(
             // protocol (http, https, ftp)
@@ -45,22 +45,35 @@ public class MetaUtils {
                     // resource path
                     "(/\\S*)?");
 
-    static public boolean startsWithNetworkProtocol(String s) {
-        s = StringUtils.toLowerCase(s);
-
+    static public boolean startsWithNetworkProtocol(CharSequence s) {
         for (String protocol : PROTOCOLS) {
-            if (s.startsWith(protocol))
+            if (startsWithLowerCase(s, protocol))
                 return true;
         }
 
         return false;
     }
 
-    static public boolean containsHyperlink(String s) {
+    /**
+     * @param prefix in lowercase.
+     * @return {@code true} if the lowercase of the character sequence starts with the prefix.
+     */
+    static private boolean startsWithLowerCase(CharSequence s, String prefix) {
+        if (s.length() < prefix.length()) return false;
+
+        for (int i = 0; i < prefix.length(); i++) {
+            if (CharUtils.toLowerCase(s.charAt(i)) != prefix.charAt(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    static public boolean containsHyperlink(CharSequence s) {
         return startsWithNetworkProtocol(s) || HYPERLINK.matcher(s).find();
     }
 
-    static public boolean endsWithFileExtension(String s) {
+    static public boolean endsWithFileExtension(CharSequence s) {
         int idx = FILE_EXTENSION.getAffixIndex(s, false);
         return (idx > 0) && s.charAt(idx - 1) == CharConst.PERIOD;
     }
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Minimal acyclic finite-state automaton accepting a set of strings, queried directly from its binary form in a {@link ByteBuffer}.
+ * A map is stored as the strings {@code key + '\0' + value}, where each key has exactly one value.
+ * The binary form starts with {@link #MAGIC}, {@link #VERSION}, the number of strings, the root state, and the number of arcs,
+ * followed by the arcs of each state in the order of their labels; each arc takes two integers:
+ * <ul>
+ * <li>the label in the lower 16 bits, {@link #FINAL} if a string ends with this arc, and {@link #LAST} if this is the last arc of its state;</li>
+ * <li>the index of the first arc of the target state, or {@code 0} if the target state has no arc.</li>
+ * </ul>
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class StringAutomaton {
+    static public final String EXT = ".fsa";
+    static private final int MAGIC = 0x46534131;
+    static private final int VERSION = 1;
+    static private final int HEADER = 20;
+    static private final int FINAL = 1 << 16;
+    static private final int LAST = 1 << 17;
+    static private final char SEPARATOR = '\0';
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int root;
+
+    private StringAutomaton(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new IllegalArgumentException("Not a string automaton of version " + VERSION);
+
+        this.buffer = buffer;
+        size = buffer.getInt(8);
+        root = buffer.getInt(12);
+    }
+
+//  ============================== Build ==============================
+
+    /**
+     * @return the automaton accepting all non-empty strings in the collection.
+     */
+    static public StringAutomaton build(Collection<String> strings) {
+        List<String> list = strings.stream().filter(s -> !s.isEmpty()).distinct().sorted().collect(Collectors.toList());
+        Builder builder = new Builder();
+
+        for (String s : list)
+            builder.add(s);
+
+        return new StringAutomaton(ByteBuffer.wrap(builder.toByteArray(list.size())));
+    }
+
+    /**
+     * @return the automaton mapping the keys to the values in the map; keys must not contain {@code '\0'}.
+     */
+    static public StringAutomaton build(Map<String, String> map) {
+        return build(map.entrySet().stream().map(e -> e.getKey() + SEPARATOR + e.getValue()).collect(Collectors.toList()));
+    }
+
+    /**
+     * @param buffer the binary form written by {@link #write(OutputStream)}; the buffer is queried directly, not copied.
+     * @throws IllegalArgumentException if the buffer is not in the binary form.
+     */
+    static public StringAutomaton read(ByteBuffer buffer) {
+        return new StringAutomaton(buffer);
+    }
+
+    /**
+     * Memory-maps the resource if it is in the file system (e.g., {@code target/classes}); otherwise, reads it into the heap (e.g., from a jar).
+     * @return the automaton in the resource if exists; otherwise, {@code null}.
+     */
+    static public StringAutomaton fromResource(String path) {
+        URL url = StringAutomaton.class.getResource(StringConst.FW_SLASH + path);
+        if (url == null) return null;
+
+        try {
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                    return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            }
+
+            try (InputStream in = url.openStream()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] b = new byte[8192];
+                int len;
+
+                while ((len = in.read(b)) >= 0)
+                    out.write(b, 0, len);
+
+                return read(ByteBuffer.wrap(out.toByteArray()));
+            }
+        } catch (IOException | URISyntaxException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        ByteBuffer b = buffer.duplicate();
+        b.position(0);
+        byte[] array = new byte[b.remaining()];
+        b.get(array);
+        out.write(array);
+    }
+
+//  ============================== Lookup ==============================
+
+    /**
+     * @return the number of strings accepted by this automaton (the number of entries for a map).
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if this automaton accepts the string.
+     */
+    public boolean contains(CharSequence s) {
+        int i, arc = -1, state = root;
+
+        for (i = 0; i < s.length(); i++) {
+            if ((arc = find(state, s.charAt(i))) < 0) return false;
+            state = getTarget(arc);
+        }
+
+        return arc >= 0 && isFinal(arc);
+    }
+
+    /**
+     * @return the value of the key if this automaton is built from a map and contains the key; otherwise, {@code null}.
+     */
+    public String get(CharSequence key) {
+        int i, arc, state = root;
+
+        for (i = 0; i < key.length(); i++) {
+            if ((arc = find(state, key.charAt(i))) < 0) return null;
+            state = getTarget(arc);
+        }
+
+        if ((arc = find(state, SEPARATOR)) < 0) return null;
+        StringBuilder build = new StringBuilder();
+
+        for (state = getTarget(arc); state != 0; state = getTarget(arc)) {
+            arc = state;
+            build.append(getLabel(arc));
+            if (isFinal(arc)) return build.toString();
+        }
+
+        return build.toString();
+    }
+
+    /**
+     * @return the index of the arc with the label from the state if exists; otherwise, {@code -1}.
+     */
+    private int find(int state, char label) {
+        if (state == 0) return -1;
+
+        for (int arc = state; ; arc++) {
+            int info = getInfo(arc);
+            char c = (char) info;
+
+            if (c == label) return arc;
+            if (c > label || (info & LAST) != 0) return -1;
+        }
+    }
+
+    private int getInfo(int arc) {
+        return buffer.getInt(HEADER + arc * 8);
+    }
+
+    private char getLabel(int arc) {
+        return (char) getInfo(arc);
+    }
+
+    private boolean isFinal(int arc) {
+        return (getInfo(arc) & FINAL) != 0;
+    }
+
+    private int getTarget(int arc) {
+        return buffer.getInt(HEADER + arc * 8 + 4);
+    }
+
+//  ============================== Views ==============================
+
+    /**
+     * @return all strings accepted by this automaton in lexicographic order.
+     */
+    public List<String> toList() {
+        List<String> list = new ArrayList<>(size);
+        collect(root, new StringBuilder(), list);
+        return list;
+    }
+
+    private void collect(int state, StringBuilder prefix, List<String> list) {
+        if (state == 0) return;
+
+        for (int arc = state; ; arc++) {
+            prefix.append(getLabel(arc));
+            if (isFinal(arc)) list.add(prefix.toString());
+            collect(getTarget(arc), prefix, list);
+            prefix.setLength(prefix.length() - 1);
+            if ((getInfo(arc) & LAST) != 0) break;
+        }
+    }
+
+    /**
+     * @return the read-only set view of this automaton.
+     */
+    public Set<String> asSet() {
+        return new AbstractSet<String>() {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof CharSequence && StringAutomaton.this.contains((CharSequence) o);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                return toList().iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * @return the read-only map view of this automaton built from a map.
+     */
+    public Map<String, String> asMap() {
+        return new AbstractMap<String, String>() {
+            @Override
+            public String get(Object key) {
+                return key instanceof CharSequence ? StringAutomaton.this.get((CharSequence) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return new AbstractSet<Entry<String, String>>() {
+                    @Override
+                    public Iterator<Entry<String, String>> iterator() {
+                        return toList().stream().map(s -> {
+                            int idx = s.indexOf(SEPARATOR);
+                            return (Entry<String, String>) new SimpleImmutableEntry<>(s.substring(0, idx), s.substring(idx + 1));
+                        }).iterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+        };
+    }
+
+//  ============================== Builder ==============================
+
+    /**
+     * Incrementally builds the minimal automaton from strings added in lexicographic order (Daciuk et al., 2000).
+     */
+    static private class Builder {
+        private final Map<State, State> register = new HashMap<>();
+        private final State root = new State();
+        private String previous = "";
+
+        void add(String s) {
+            int i, len = Math.min(previous.length(), s.length());
+            State state = root;
+
+            for (i = 0; i < len && previous.charAt(i) == s.charAt(i); i++)
+                state = state.getLastChild();
+
+            if (state.size > 0) replaceOrRegister(state);
+
+            for (; i < s.length(); i++)
+                state = state.addChild(s.charAt(i));
+
+            state.is_final = true;
+            previous = s;
+        }
+
+        private void replaceOrRegister(State state) {
+            State child = state.getLastChild();
+            if (child.size > 0) replaceOrRegister(child);
+            State canonical = register.putIfAbsent(child, child);
+            if (canonical != null) state.children[state.size - 1] = canonical;
+        }
+
+        byte[] toByteArray(int size) {
+            if (root.size > 0) replaceOrRegister(root);
+            List<State> states = new ArrayList<>();
+            int arcs = assignOffsets(root, states, 1);
+
+            ByteArrayOutputStream bout = new ByteArrayOutputStream(HEADER + arcs * 8);
+            DataOutputStream out = new DataOutputStream(bout);
+
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(size);
+                out.writeInt(root.offset);
+                out.writeInt(arcs);
+                out.writeLong(0);
+
+                for (State state : states) {
+                    for (int i = 0; i < state.size; i++) {
+                        State child = state.children[i];
+                        int info = state.labels[i];
+                        if (child.is_final) info |= FINAL;
+                        if (i + 1 == state.size) info |= LAST;
+                        out.writeInt(info);
+                        out.writeInt(child.offset);
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+
+            return bout.toByteArray();
+        }
+
+        /**
+         * Assigns the index of the first arc to every state with arcs in pre-order; index {@code 0} is reserved.
+         * @return the next free index.
+         */
+        private int assignOffsets(State state, List<State> states, int offset) {
+            if (state.size == 0 || state.offset > 0) return offset;
+            state.offset = offset;
+            states.add(state);
+            offset += state.size;
+
+            for (int i = 0; i < state.size; i++)
+                offset = assignOffsets(state.children[i], states, offset);
+
+            return offset;
+        }
+    }
+
+    static private class State {
+        private char[] labels = new char[2];
+        private State[] children = new State[2];
+        private int size;
+        private boolean is_final;
+        private int offset;
+
+        State getLastChild() {
+            return children[size - 1];
+        }
+
+        State addChild(char label) {
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+            }
+
+            State child = new State();
+            labels[size] = label;
+            children[size++] = child;
+            return child;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof State)) return false;
+            State s = (State) o;
+            if (is_final != s.is_final || size != s.size) return false;
+
+            for (int i = 0; i < size; i++) {
+                if (labels[i] != s.labels[i] || children[i] != s.children[i])
+                    return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = is_final ? 1 : 0;
+
+            for (int i = 0; i < size; i++)
+                h = 31 * (31 * h + labels[i]) + System.identityHashCode(children[i]);
+
+            return h;
+        }
+    }
+}
@@ -22,6 +22,8 @@ import java.util.List;
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
  */
 public class StringUtils {
+    static private final ThreadLocal<StringBuilder> SIMPLIFY_BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
     private StringUtils() {
     }
 
@@ -92,23 +94,85 @@ public class StringUtils {
     /**
      * This method converts characters in [128, 256) correctly where {@link String#toUpperCase()} doesn't.
      * About 2+ times faster than {@link String#toUpperCase()}.
+     * @return the original instance if it has no character to convert.
      */
     static public String toUpperCase(String s) {
         if (s == null) return null;
+        int i, size = s.length();
+
+        for (i = 0; i < size; i++) {
+            if (CharUtils.toUpperCase(s.charAt(i)) != s.charAt(i))
+                break;
+        }
+
+        if (i == size) return s;
         char[] array = s.toCharArray();
-        boolean b = CharUtils.toUpperCase(array);
-        return b ? new String(array) : s;
+        for (; i < size; i++) array[i] = CharUtils.toUpperCase(array[i]);
+        return new String(array);
     }
 
     /**
      * This method converts characters in [128, 256) correctly where {@link String#toUpperCase()} doesn't.
      * About 2+ times faster than {@link String#toLowerCase()}.
+     * @return the original instance if it has no character to convert.
      */
     static public String toLowerCase(String s) {
         if (s == null) return null;
+        int i, size = s.length();
+
+        for (i = 0; i < size; i++) {
+            if (CharUtils.toLowerCase(s.charAt(i)) != s.charAt(i))
+                break;
+        }
+
+        if (i == size) return s;
         char[] array = s.toCharArray();
-        boolean b = CharUtils.toLowerCase(array);
-        return b ? new String(array) : s;
+        for (; i < size; i++) array[i] = CharUtils.toLowerCase(array[i]);
+        return new String(array);
+    }
+
+    /**
+     * Writes the uppercase of the character sequence to the buffer, which is cleared first.
+     * @return {@code true} if the buffer differs from the character sequence.
+     * @see #toUpperCase(String)
+     */
+    static public boolean toUpperCase(CharSequence s, StringBuilder buffer) {
+        int i, size = s.length();
+        boolean b = false;
+        char c, u;
+
+        buffer.setLength(0);
+
+        for (i = 0; i < size; i++) {
+            c = s.charAt(i);
+            u = CharUtils.toUpperCase(c);
+            if (c != u) b = true;
+            buffer.append(u);
+        }
+
+        return b;
+    }
+
+    /**
+     * Writes the lowercase of the character sequence to the buffer, which is cleared first.
+     * @return {@code true} if the buffer differs from the character sequence.
+     * @see #toLowerCase(String)
+     */
+    static public boolean toLowerCase(CharSequence s, StringBuilder buffer) {
+        int i, size = s.length();
+        boolean b = false;
+        char c, l;
+
+        buffer.setLength(0);
+
+        for (i = 0; i < size; i++) {
+            c = s.charAt(i);
+            l = CharUtils.toLowerCase(c);
+            if (c != l) b = true;
+            buffer.append(l);
+        }
+
+        return b;
     }
 
     static public String[] toUpperCase(String[] source) {
@@ -134,30 +198,99 @@ public class StringUtils {
 //	====================================== Simplify ======================================
 
     /**
-     * @return a simplified form of the specific word-form.
-     * @see MetaUtils#containsHyperlink(String)
+     * @return a simplified form of the specific word-form; the original instance if nothing is simplified.
+     * @see MetaUtils#containsHyperlink(CharSequence)
      * @see #collapseDigits(String)
      * @see #collapsePunctuation(String)
+     * @see #toSimplifiedForm(CharSequence, boolean, StringBuilder)
      */
     static public String toSimplifiedForm(String s, boolean uncapitalize) {
-        if (MetaUtils.endsWithFileExtension(s) || MetaUtils.containsHyperlink(s))
-            return MetaConst.HYPERLINK;
+        StringBuilder buffer = SIMPLIFY_BUFFER.get();
+        return toSimplifiedForm(s, uncapitalize, buffer) ? buffer.toString() : s;
+    }
 
-//		if (s.length() == 1)
-//		{
-//			char c = s.charAt(0);
-//			if (CharUtils.isCurrency(c)) return StringConst.DOLLAR;
-//			if (CharUtils.isSingleQuotationMark(c)) return StringConst.SINGLE_QUOTE;
-//			if (CharUtils.isDoubleQuotationMark(c)) return StringConst.DOUBLE_QUOTE;
-//			if (CharUtils.isListMark(c) || CharUtils.isHyphen(c)) return StringConst.HYPHEN;
-//		}
+    /**
+     * Writes the simplified form of the character sequence to the buffer, which is cleared first.
+     * Generalizing symbols, collapsing digits and punctuation, and uncapitalizing are performed in a single pass
+     * without intermediate strings, and give the same result as applying {@link #generalizeSymbols(String)},
+     * {@link #collapseDigits(String)}, {@link #collapsePunctuation(String)}, and {@link #toLowerCase(String)} in order.
+     * @return {@code true} if the buffer differs from the character sequence.
+     */
+    static public boolean toSimplifiedForm(CharSequence s, boolean uncapitalize, StringBuilder buffer) {
+        buffer.setLength(0);
 
-        s = generalizeSymbols(s);
-        s = collapseDigits(s);
-        s = collapsePunctuation(s);
-        if (uncapitalize) s = toLowerCase(s);
+        if (MetaUtils.endsWithFileExtension(s) || MetaUtils.containsHyperlink(s)) {
+            buffer.append(MetaConst.HYPERLINK);
+            return !contentEquals(buffer, s);
+        }
 
-        return s;
+        int i, j, size = s.length();
+        char curr, prev = 0;
+
+        for (i = 0; i < size; i++) {
+            i = collapseDigitsAux(s, i);
+            curr = generalizeSymbol(s, i);
+
+            if (curr == CharConst.PERCENT) {
+                if (CharUtils.isDigit(prev))
+                    continue;
+            } else if (CharUtils.isPreDigitSymbol(curr) || curr == CharConst.COMMA || curr == CharConst.COLON || curr == CharConst.FW_SLASH || curr == CharConst.EQUAL) {
+                if (i + 1 < size && CharUtils.isDigit(generalizeSymbol(s, j = collapseDigitsAux(s, i + 1)))) {
+                    if (i == 0) {
+                        i = j;
+                        curr = generalizeSymbol(s, i);
+                    } else if (CharUtils.isDigit(prev)) {
+                        i = j;
+                        continue;
+                    }
+                }
+            }
+
+            if (CharUtils.isDigit(curr)) {
+                if (!CharUtils.isDigit(prev))
+                    appendCollapsedPunctuation(buffer, CharConst.ZERO);
+            } else
+                appendCollapsedPunctuation(buffer, curr);
+
+            prev = curr;
+        }
+
+        if (uncapitalize) {
+            for (i = buffer.length() - 1; i >= 0; i--)
+                buffer.setCharAt(i, CharUtils.toLowerCase(buffer.charAt(i)));
+        }
+
+        return !contentEquals(buffer, s);
+    }
+
+    /**
+     * Appends the character unless it is the third or later repetition of a punctuation,
+     * as in {@link #collapsePunctuation(String)}; the last two characters in the buffer are always
+     * the last two characters before collapsing.
+     */
+    static private void appendCollapsedPunctuation(StringBuilder buffer, char c) {
+        int len = buffer.length();
+
+        if (len > 1 && CharUtils.isPunctuation(c) && buffer.charAt(len - 1) == c && buffer.charAt(len - 2) == c)
+            return;
+
+        buffer.append(c);
+    }
+
+    static private char generalizeSymbol(CharSequence s, int index) {
+        return CharUtils.generalizeSymbol(s.charAt(index));
+    }
+
+    static private boolean contentEquals(CharSequence s1, CharSequence s2) {
+        int i, size = s1.length();
+        if (size != s2.length()) return false;
+
+        for (i = 0; i < size; i++) {
+            if (s1.charAt(i) != s2.charAt(i))
+                return false;
+        }
+
+        return true;
     }
 
     static public String generalizeSymbols(String s) {
@@ -245,6 +378,20 @@ public class StringUtils {
         return index;
     }
 
+    /**
+     * {@link #collapseDigitsAux(char[], int)} over the generalized symbols of the character sequence.
+     */
+    static private int collapseDigitsAux(CharSequence s, int index) {
+        char curr = generalizeSymbol(s, index);
+
+        if (curr == CharConst.DOLLAR || curr == CharConst.POUND) {
+            if (index + 1 < s.length() && CharUtils.isDigit(generalizeSymbol(s, index + 1)))
+                return index + 1;
+        }
+
+        return index;
+    }
+
     static public String collapsePunctuation(String s) {
         StringBuilder build = new StringBuilder();
         char[] cs = s.toCharArray();
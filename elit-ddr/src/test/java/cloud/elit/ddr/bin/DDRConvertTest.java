@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.bin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.conversion.C2DConverter;
+import cloud.elit.ddr.conversion.EnglishC2DConverter;
+import cloud.elit.ddr.util.Language;
+import cloud.elit.sdk.structure.Sentence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class DDRConvertTest {
+    final String ROOT = "src/test/resources/conversion/english/";
+
+    @Test
+    public void testThreads() throws IOException {
+        Path dir = Files.createTempDirectory("ddr");
+        File[] files = new File(ROOT).listFiles((d, name) -> name.endsWith(".parse"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        DDRConvert ddr = new DDRConvert();
+        C2DConverter converter = ddr.createConverter();
+
+        try {
+            for (File file : files) {
+                String sequential = dir.resolve(file.getName() + ".seq").toString();
+                String threaded = dir.resolve(file.getName() + ".tp").toString();
+
+                int n = ddr.convert(converter, Language.ENGLISH, file.getPath(), sequential, false);
+                // a small capacity makes the reader wait for the pending batches
+                for (int batch = 1; batch <= 4; batch++) {
+                    assertEquals(file.getName(), n, ddr.convert(converter, Language.ENGLISH, file.getPath(), threaded, false, executor, 3, batch));
+                    assertEquals(file.getName(), read(sequential), read(threaded));
+                }
+            }
+        } finally {
+            executor.shutdown();
+            delete(dir);
+        }
+    }
+
+    @Test
+    public void testFailure() throws IOException {
+        Path dir = Files.createTempDirectory("ddr");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        String parseFile = ROOT + "nsbj.parse";
+        String outputFile = dir.resolve("nsbj.tsv").toString();
+
+        C2DConverter converter = new EnglishC2DConverter() {
+            private int count = 0;
+
+            @Override
+            public synchronized Sentence toDependencyGraph(CTTree tree) {
+                if (++count == 2) throw new IllegalStateException("tree 2");
+                return super.toDependencyGraph(tree);
+            }
+        };
+
+        try {
+            new DDRConvert().convert(converter, Language.ENGLISH, parseFile, outputFile, false, executor, 2, 1);
+            fail("the failure of a conversion must be thrown");
+        } catch (IllegalStateException e) {
+            assertEquals("tree 2", e.getMessage());
+        } finally {
+            executor.shutdown();
+            delete(dir);
+        }
+    }
+
+    private String read(String filename) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(filename)), StandardCharsets.UTF_8);
+    }
+
+    private void delete(Path dir) throws IOException {
+        File[] files = dir.toFile().listFiles();
+        if (files != null) for (File file : files) Files.delete(file.toPath());
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import cloud.elit.ddr.conversion.EnglishC2DConverter;
+import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.sdk.structure.Sentence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CTBinaryReaderTest {
+    final String ROOT = "src/test/resources/conversion/english/";
+
+    @Test
+    public void test() throws IOException {
+        List<CTTree> trees = new ArrayList<>();
+        File[] files = new File(ROOT).listFiles((dir, name) -> name.endsWith(".parse"));
+
+        for (File file : files) {
+            CTReader reader = new CTReader(IOUtils.createFileInputStream(file.getPath()));
+            trees.addAll(reader.readTrees());
+            reader.close();
+        }
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        CTBinaryWriter writer = new CTBinaryWriter(bout);
+        writer.writeTrees(trees);
+        writer.close();
+
+        CTBinaryReader reader = new CTBinaryReader(new ByteArrayInputStream(bout.toByteArray()));
+        List<CTTree> copies = reader.readTrees();
+        reader.close();
+        assertEquals(trees.size(), copies.size());
+
+        EnglishC2DConverter converter = new EnglishC2DConverter();
+
+        for (int i = 0; i < trees.size(); i++) {
+            CTTree tree = trees.get(i), copy = copies.get(i);
+            assertEquals(tree.toString(), copy.toString());
+            assertEquals(tree.getRoot().toString(false, true, "\n"), copy.getRoot().toString(false, true, "\n"));
+            assertEquals(toTSV(converter, tree), toTSV(converter, copy));
+        }
+    }
+
+    @Test
+    public void testLongForm() throws IOException {
+        StringBuilder build = new StringBuilder();
+        for (int i = 0; i < 30000; i++) build.append("\u00e9\u4e2d");
+        String form = build.toString();
+
+        CTTree tree = new CTReader(new ByteArrayInputStream(("(TOP (NN " + form + "))").getBytes(StandardCharsets.UTF_8))).next();
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        CTBinaryWriter writer = new CTBinaryWriter(bout);
+        writer.write(tree);
+        writer.close();
+
+        CTBinaryReader reader = new CTBinaryReader(new ByteArrayInputStream(bout.toByteArray()));
+        assertEquals(form, reader.next().getTokens().get(0).getForm());
+        reader.close();
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        CTBinaryWriter writer = new CTBinaryWriter(bout);
+        writer.write(new CTReader(new ByteArrayInputStream("(TOP (S (NP (NN a)) (VP (VB b))))".getBytes(StandardCharsets.UTF_8))).next());
+        writer.close();
+        byte[] bytes = bout.toByteArray();
+
+        // the end of the stream at a tree boundary
+        CTBinaryReader reader = new CTBinaryReader(new ByteArrayInputStream(bytes));
+        assertEquals(1, reader.readTrees().size());
+
+        for (int length : new int[]{bytes.length - 1, 10, 9}) {
+            reader = new CTBinaryReader(new ByteArrayInputStream(Arrays.copyOf(bytes, length)));
+
+            try {
+                reader.readTrees();
+                fail("a truncated tree must be thrown: " + length);
+            } catch (UncheckedIOException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testTruncatedHeader() {
+        new CTBinaryReader(new ByteArrayInputStream(new byte[]{0x43, 0x54}));
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteError() throws IOException {
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        CTBinaryWriter writer = new CTBinaryWriter(out);
+        writer.write(new CTReader(new ByteArrayInputStream("(TOP (NN a))".getBytes(StandardCharsets.UTF_8))).next());
+        writer.close();
+    }
+
+    String toTSV(EnglishC2DConverter converter, CTTree tree) {
+        Sentence graph = converter.toDependencyGraph(tree);
+        if (graph == null) return null;
+        graph.setNamedEntities(null);
+        return graph.toTSV();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.ddr.util.Language;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CTIndexTest {
+    final String ROOT = "src/test/resources/conversion/english/";
+
+    @Test
+    public void testBuild() {
+        String s = "(TOP (S (NP (NN a))))\n( (NP (NN b)) )\n\n(X (Y c)) ) (";
+        assertArrayEquals(new int[]{0, 22, 39, 51}, CTIndex.build(ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testGet() throws IOException {
+        Path dir = Files.createTempDirectory("ctindex");
+        File[] files = new File(ROOT).listFiles((d, name) -> name.endsWith(".parse"));
+
+        try {
+            for (File file : files) {
+                Path parseFile = Files.copy(file.toPath(), dir.resolve(file.getName()));
+                CTReader reader = new CTReader(IOUtils.createFileInputStream(parseFile.toString()));
+                List<CTTree> trees = reader.readTrees();
+                reader.close();
+
+                // sequential reading stops at the first erroneous tree (e.g., stray text in issues.parse)
+                reader = new CTReader(CTIndex.open(parseFile.toString()), Language.ENGLISH);
+                assertTrue(file.getName(), reader.getIndex().size() >= trees.size());
+
+                for (int i = trees.size() - 1; i >= 0; i--)
+                    assertEquals(trees.get(i).toString(), reader.get(i).toString());
+
+                assertNull(reader.get(-1));
+                assertNull(reader.get(reader.getIndex().size()));
+
+                if (trees.size() > 1) {
+                    reader.get(0);
+                    assertEquals(trees.get(1).toString(), reader.next().toString());
+                }
+
+                reader.close();
+            }
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    public void testSidecar() throws IOException {
+        Path dir = Files.createTempDirectory("ctindex");
+
+        try {
+            String parseFile = dir.resolve("a.parse").toString();
+            byte[] bytes = "(A (B x))\n(A (B y))\n".getBytes(StandardCharsets.UTF_8);
+            Files.write(new File(parseFile).toPath(), bytes);
+            File indexFile = new File(parseFile + CTIndex.EXT);
+            int[] offsets = {0, 10};
+
+            // built and saved
+            assertEquals(2, CTIndex.open(parseFile).size());
+            assertTrue(indexFile.isFile());
+
+            // up-to-date sidecar is reused, even though its offsets are not the ones built from the file
+            writeSidecar(indexFile, CTIndex.MAGIC, bytes.length, new int[]{0});
+            assertEquals(1, CTIndex.open(parseFile).size());
+
+            // wrong size
+            writeSidecar(indexFile, CTIndex.MAGIC, bytes.length + 1, new int[]{0});
+            assertOffsets(offsets, CTIndex.open(parseFile));
+
+            // wrong magic
+            writeSidecar(indexFile, 0, bytes.length, new int[]{0});
+            assertOffsets(offsets, CTIndex.open(parseFile));
+
+            // older than the parse file
+            writeSidecar(indexFile, CTIndex.MAGIC, bytes.length, new int[]{0});
+            indexFile.setLastModified(new File(parseFile).lastModified() - 10000);
+            assertOffsets(offsets, CTIndex.open(parseFile));
+
+            // the rebuilt sidecar is saved for the current parse file
+            try (DataInputStream in = new DataInputStream(new FileInputStream(indexFile))) {
+                assertEquals(CTIndex.MAGIC, in.readInt());
+                assertEquals(CTIndex.VERSION, in.readInt());
+                assertEquals(bytes.length, in.readInt());
+                assertEquals(offsets.length, in.readInt());
+            }
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissing() {
+        CTIndex.open("src/test/resources/conversion/english/missing.parse");
+    }
+
+    private void assertOffsets(int[] expected, CTIndex index) {
+        assertEquals(expected.length, index.size());
+
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], index.getOffset(i));
+    }
+
+    /**
+     * Writes the sidecar with a modification time later than the parse file.
+     */
+    private void writeSidecar(File indexFile, int magic, int fileSize, int[] offsets) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(indexFile))) {
+            out.writeInt(magic);
+            out.writeInt(CTIndex.VERSION);
+            out.writeInt(fileSize);
+            out.writeInt(offsets.length);
+            for (int offset : offsets) out.writeInt(offset);
+        }
+
+        indexFile.setLastModified(System.currentTimeMillis() + 10000);
+    }
+
+    private void delete(Path dir) throws IOException {
+        File[] files = dir.toFile().listFiles();
+        if (files != null) for (File file : files) Files.delete(file.toPath());
+        Files.delete(dir);
+    }
+}
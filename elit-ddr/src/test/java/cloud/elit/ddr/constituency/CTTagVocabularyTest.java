@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.constituency;
+
+import org.junit.Test;
+import cloud.elit.ddr.util.PTBTag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests private instances of the vocabulary so the global vocabularies shared by other tests are not modified.
+ */
+public class CTTagVocabularyTest {
+    @Test
+    public void testGrowth() {
+        CTTagVocabulary.Vocabulary vocabulary = new CTTagVocabulary.Vocabulary(Integer.MAX_VALUE);
+
+        for (int i = 0; i < 1000; i++) {
+            String tag = "TAG-" + i;
+            assertEquals(i, vocabulary.add(tag));
+            assertEquals(i, vocabulary.add(tag));
+        }
+
+        assertEquals(1000, vocabulary.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("TAG-" + i, vocabulary.get(i));
+            assertEquals(i, vocabulary.get("TAG-" + i));
+        }
+
+        assertEquals(-1, vocabulary.get("TAG-1000"));
+    }
+
+    @Test
+    public void testCapacity() {
+        CTTagVocabulary.Vocabulary vocabulary = new CTTagVocabulary.Vocabulary(CTTagVocabulary.FUNCTION_TAG_BITS);
+
+        for (int i = 0; i < 100; i++) {
+            int id = vocabulary.add("TAG-" + i);
+            assertEquals(i < CTTagVocabulary.FUNCTION_TAG_BITS ? i : -1, id);
+        }
+
+        assertEquals(CTTagVocabulary.FUNCTION_TAG_BITS, vocabulary.size());
+        assertEquals(-1, vocabulary.get("TAG-99"));
+        assertEquals(0, vocabulary.add("TAG-0"));
+    }
+
+    @Test
+    public void testFunctionTags() {
+        CTNode node = new CTNode("NP");
+        node.addFunctionTag(PTBTag.F_SBJ);
+        node.addFunctionTag(PTBTag.F_TMP);
+
+        assertTrue(CTTagVocabulary.getFunctionTagID(PTBTag.F_SBJ) < CTTagVocabulary.FUNCTION_TAG_BITS);
+        assertTrue(node.isFunctionTag(PTBTag.F_SBJ));
+        assertEquals(2, node.getFunctionTags().size());
+
+        node.removeFunctionTag(PTBTag.F_SBJ);
+        assertEquals("[" + PTBTag.F_TMP + "]", node.getFunctionTags().toString());
+    }
+}
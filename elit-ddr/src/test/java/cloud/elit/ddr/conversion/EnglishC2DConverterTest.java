@@ -17,12 +17,18 @@
 package cloud.elit.ddr.conversion;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Assert;
 import org.junit.Test;
 import cloud.elit.ddr.constituency.CTReader;
@@ -88,18 +94,57 @@ public class EnglishC2DConverterTest {
         test("ref");
     }
 
-    void test(String filename) {
-        CTReader reader = new CTReader(IOUtils.createFileInputStream(ROOT + filename + ".parse"));
-        Document doc = new Document();
-        CTTree ctree;
+    @Test
+    public void testConcurrency() throws Exception {
+        final String[] filenames = {"nsbj", "obj", "aux", "conj", "relcl", "advcl", "ppmod", "disc", "meta", "ref"};
+        final int threads = 8, rounds = 20;
+        List<String> expected = new ArrayList<>();
 
-        while ((ctree = reader.next()) != null) {
-            Sentence dtree = ddg.toDependencyGraph(ctree);
-            dtree.setNamedEntities(null);
-            doc.add(dtree);
+        for (String filename : filenames)
+            expected.add(convert(filename));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> futures = new ArrayList<>();
+
+        for (int r = 0; r < rounds; r++) {
+            for (String filename : filenames)
+                futures.add(executor.submit(() -> convert(filename)));
+        }
+
+        try {
+            for (int i = 0; i < futures.size(); i++)
+                Assert.assertEquals(expected.get(i % filenames.length), futures.get(i).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMetrics() {
+        String expected = convert("relcl");
+        C2DMetrics metrics = new C2DMetrics();
+        ddg.setMetrics(metrics);
+
+        try {
+            Assert.assertEquals(expected, convert("relcl"));
+            long trees = metrics.getCount(C2DMetrics.Stage.PREPROCESS);
+            Assert.assertTrue(trees > 0);
+
+            for (C2DMetrics.Stage stage : C2DMetrics.Stage.values())
+                Assert.assertEquals(trees, metrics.getCount(stage));
+
+            Assert.assertEquals(0, metrics.getHeadrulesNotFound());
+            CTReader reader = new CTReader(new ByteArrayInputStream("(TOP (S (XYZ (NN a) (NN b)) (VP (VBD c))))".getBytes()));
+            ddg.toDependencyGraph(reader.next());
+            Assert.assertEquals(1, metrics.getHeadrulesNotFound());
+            Assert.assertEquals(Long.valueOf(1), metrics.toMap().get("headrules_not_found.XYZ"));
+        } finally {
+            ddg.setMetrics(null);
         }
+    }
 
-        String actual = doc.toTSV();
+    void test(String filename) {
+        String actual = convert(filename);
 
         try {
             BufferedReader fin = new BufferedReader(new InputStreamReader(new FileInputStream(ROOT + filename
@@ -113,6 +158,21 @@ public class EnglishC2DConverterTest {
         }
     }
 
+    String convert(String filename) {
+        CTReader reader = new CTReader(IOUtils.createFileInputStream(ROOT + filename + ".parse"));
+        Document doc = new Document();
+        CTTree ctree;
+
+        while ((ctree = reader.next()) != null) {
+            Sentence dtree = ddg.toDependencyGraph(ctree);
+            dtree.setNamedEntities(null);
+            doc.add(dtree);
+        }
+
+        reader.close();
+        return doc.toTSV();
+    }
+
     void print(String filename) {
         CTReader reader = new CTReader(IOUtils.createFileInputStream(ROOT + filename + ".parse"));
         Document doc = new Document();
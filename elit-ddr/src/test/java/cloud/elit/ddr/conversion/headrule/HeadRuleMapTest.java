@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.conversion.headrule;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import cloud.elit.ddr.constituency.CTNode;
+import cloud.elit.ddr.constituency.CTReader;
+import cloud.elit.ddr.constituency.CTTree;
+import cloud.elit.ddr.util.IOUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HeadRuleMapTest {
+    final String ROOT = "src/test/resources/conversion/english/";
+
+    @Test
+    public void test() {
+        HeadRuleMap map = new HeadRuleMap(IOUtils.getInputStreamsFromResource("conversion/en-headrules.txt"));
+        List<HeadRule> rules = new ArrayList<>(map.values());
+        rules.add(new HeadRule(HeadRule.DIR_RIGHT_TO_LEFT));
+        map.compile();
+
+        for (CTTree tree : readTrees()) {
+            for (CTNode node : tree.getRoot().flatten().collect(Collectors.toList())) {
+                assertEquals(map.get(node.getSyntacticTag()), map.getHeadRule(node.getSyntacticTagID()));
+
+                for (HeadRule rule : rules) {
+                    for (HeadTagSet tagset : rule.getHeadTags())
+                        assertEquals(tagset.toString() + " " + node, tagset.matchesPattern(node), tagset.matches(node));
+                }
+            }
+        }
+
+        // tags added to the vocabulary after compilation
+        CTNode node = new CTNode("NNUNSEEN");
+        HeadTagSet tagset = new HeadTagSet("NN.*|NP");
+        assertTrue(tagset.matches(node));
+        assertEquals(tagset.matchesPattern(node), tagset.matches(node));
+        assertEquals(null, map.getHeadRule(node.getSyntacticTagID()));
+    }
+
+    List<CTTree> readTrees() {
+        List<CTTree> trees = new ArrayList<>();
+        File[] files = new File(ROOT).listFiles((dir, name) -> name.endsWith(".parse"));
+
+        for (File file : files) {
+            CTReader reader = new CTReader(IOUtils.createFileInputStream(file.getPath()));
+            trees.addAll(reader.readTrees());
+            reader.close();
+        }
+
+        return trees;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import cloud.elit.ddr.dictionary.DictionaryScanner.Match;
+import cloud.elit.ddr.util.StringUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DictionaryScannerTest {
+    @Test
+    public void test() {
+        Map<DictionaryType, Set<String>> entries = DictionaryScanner.loadEntries(DictionaryType.values());
+        DictionaryScanner scanner = new DictionaryScanner(entries);
+        String text = "Adm. Smith paid US$20 &amp; 5kg for :-@ the re-ENTRY, but he CANNOT; w/o it's fine.";
+        List<Match> matches = scanner.scan(text);
+
+        assertTrue(matches.contains(new Match(DictionaryType.ABBREVIATION_PERIOD, 0, 4)));
+        assertTrue(matches.contains(new Match(DictionaryType.CURRENCY, 16, 19)));
+        assertTrue(matches.contains(new Match(DictionaryType.HTML_TAG, 22, 27)));
+        assertTrue(matches.contains(new Match(DictionaryType.UNIT, 29, 31)));
+        assertTrue(matches.contains(new Match(DictionaryType.EMOTICON, 36, 39)));
+        assertTrue(matches.contains(new Match(DictionaryType.ENGLISH_HYPHEN_PREFIX, 44, 46)));
+        assertTrue(matches.contains(new Match(DictionaryType.ENGLISH_COMPOUND, 61, 67)));
+        assertTrue(matches.contains(new Match(DictionaryType.PRESERVE, 69, 72)));
+        assertEquals(bruteForce(entries, text), new HashSet<>(matches));
+        assertEquals(matches.size(), new HashSet<>(matches).size());
+
+        List<Match> range = new ArrayList<>();
+        scanner.scan(text, 5, 10, (type, beginIndex, endIndex) -> range.add(new Match(type, beginIndex, endIndex)));
+        for (Match m : range) assertTrue(5 <= m.getBeginIndex() && m.getEndIndex() <= 10);
+
+        DictionaryScanner small = new DictionaryScanner(DictionaryType.UNIT, DictionaryType.CURRENCY);
+        assertEquals(Arrays.asList(new Match(DictionaryType.UNIT, 1, 3)), small.scan("5kg"));
+    }
+
+    private Set<Match> bruteForce(Map<DictionaryType, Set<String>> entries, String text) {
+        String lower = StringUtils.toLowerCase(text);
+        Set<Match> matches = new HashSet<>();
+
+        for (Map.Entry<DictionaryType, Set<String>> e : entries.entrySet()) {
+            for (String entry : e.getValue()) {
+                entry = StringUtils.toLowerCase(entry);
+
+                for (int i = lower.indexOf(entry); i >= 0; i = lower.indexOf(entry, i + 1))
+                    matches.add(new Match(e.getKey(), i, i + entry.length()));
+            }
+        }
+
+        return matches;
+    }
+}
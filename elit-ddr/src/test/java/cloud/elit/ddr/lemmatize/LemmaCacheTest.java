@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.lemmatize;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import cloud.elit.ddr.lemmatize.english.EnglishLemmatizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LemmaCacheTest {
+    @Test
+    public void testEviction() {
+        LemmaCache lru = new LemmaCache(2, LemmaCache.Eviction.LRU, 1);
+        LemmaCache fifo = new LemmaCache(2, LemmaCache.Eviction.FIFO, 1);
+
+        for (LemmaCache cache : new LemmaCache[]{lru, fifo}) {
+            cache.put("ran", "VBD", "run");
+            cache.put("ran", "VBN", "run");
+            assertEquals("run", cache.get("ran", "VBD"));
+            cache.put("mice", "NNS", "mouse");
+            assertEquals(2, cache.size());
+            assertEquals(1, cache.getEvictions());
+        }
+
+        assertEquals("run", lru.get("ran", "VBD"));
+        assertNull(lru.get("ran", "VBN"));
+        assertNull(fifo.get("ran", "VBD"));
+        assertEquals("run", fifo.get("ran", "VBN"));
+        assertEquals(2, lru.getHits());
+        assertEquals(1, lru.getMisses());
+    }
+
+    @Test
+    public void testCapacity() {
+        int[][] configs = {{5, 5}, {5, 16}, {100, 16}, {17, 3}, {1, 16}};
+
+        for (int[] config : configs) {
+            LemmaCache cache = new LemmaCache(config[0], LemmaCache.Eviction.LRU, config[1]);
+
+            for (int i = 0; i < config[0] * 20; i++)
+                cache.put("form" + i, "NN", "lemma");
+
+            // every segment is filled since far more keys than the capacity are put
+            assertEquals(config[0], cache.size());
+        }
+    }
+
+    @Test
+    public void testSpread() {
+        String[] tags = {"NN", "NNS", "VB", "VBD", "JJ"};
+        int segments = 16, n = 32000;
+        LemmaCache cache = new LemmaCache(n, LemmaCache.Eviction.LRU, segments);
+        List<Set<Integer>> buckets = new ArrayList<>();
+        int[] counts = new int[segments];
+
+        for (int i = 0; i < segments; i++)
+            buckets.add(new HashSet<>());
+
+        for (int i = 0; i < n; i++) {
+            LemmaCache.Key key = new LemmaCache.Key("form" + i, tags[i % tags.length]);
+            int h = key.hashCode(), index = cache.getSegmentIndex(key);
+            counts[index]++;
+            // the bucket index of java.util.HashMap with 4096 buckets per segment
+            buckets.get(index).add((h ^ (h >>> 16)) & 4095);
+        }
+
+        for (int i = 0; i < segments; i++) {
+            assertTrue(Math.abs(counts[i] - n / segments) < n / segments / 5);
+            // 2000 keys over 4096 buckets occupy about 1600 buckets if spread evenly
+            assertTrue(buckets.get(i).size() > counts[i] * 2 / 3);
+        }
+    }
+
+    @Test
+    public void testLemmatizer() {
+        String[][] tokens = {{"studies", "VBZ"}, {"studies", "NNS"}, {"running", "VBG"}, {"n't", "RB"}, {"third", "JJ"}, {"Studies", "NNS"}};
+        EnglishLemmatizer lemmatizer = new EnglishLemmatizer();
+        String[] expected = new String[tokens.length];
+
+        for (int i = 0; i < tokens.length; i++)
+            expected[i] = lemmatizer.getLemma(tokens[i][0], tokens[i][1]);
+
+        LemmaCache cache = new LemmaCache(100);
+        lemmatizer.setCache(cache);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < tokens.length; i++)
+                assertEquals(expected[i], lemmatizer.getLemma(tokens[i][0], tokens[i][1]));
+        }
+
+        assertEquals(tokens.length, cache.getMisses());
+        assertEquals(tokens.length * 2, cache.getHits());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.lemmatize.english;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import cloud.elit.ddr.lemmatize.util.AbstractAffixMatcher;
+import cloud.elit.ddr.util.DSUtils;
+import cloud.elit.ddr.util.IOUtils;
+import cloud.elit.ddr.util.XMLUtils;
+
+import static org.junit.Assert.assertEquals;
+
+public class EnglishInflectionTest {
+    final String[] SUFFIXES = {"", "s", "es", "ies", "d", "ed", "ied", "n", "ing", "ying", "ung", "er", "ier", "est", "iest", "men", "ae", "i", "a"};
+
+    @Test
+    public void testSuffixes() {
+        Element inflection = XMLUtils.getDocumentElement(IOUtils.getInputStreamsFromResource(EnglishLemmatizer.ROOT + "inflection_suffix.xml"));
+        test(inflection, "verb", "VB", "VBZ", "VBG", "VBD", "VBN");
+        test(inflection, "noun", "NN", "NNS", "NNPS");
+        test(inflection, "adjective", "JJ", "JJR", "JJS");
+        test(inflection, "adverb", "RB", "RBR", "RBS");
+    }
+
+    /**
+     * Compares the base forms from the suffix trie to the ones from trying every suffix matcher in order.
+     */
+    void test(Element eInflection, String type, String... tags) {
+        Element eAffixes = XMLUtils.getFirstElementByTagName(eInflection, type);
+        List<AbstractAffixMatcher> matchers = new EnglishAffixMatcherFactory().createAffixMatchers(eAffixes);
+        Set<String> baseSet = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(EnglishLemmatizer.ROOT + type + ".base"));
+        EnglishInflection inflection = new EnglishInflection(tags[0], baseSet, null, matchers);
+        List<String> bases = new ArrayList<>(baseSet);
+
+        for (int i = 0; i < bases.size(); i += 7) {
+            String base = bases.get(i);
+
+            for (String suffix : SUFFIXES) {
+                for (String form : new String[]{base + suffix, base.substring(0, base.length() - 1) + suffix, base + base.charAt(base.length() - 1) + suffix}) {
+                    for (String tag : tags)
+                        assertEquals(form + " " + tag, getBaseFormLinear(matchers, baseSet, form, tag), inflection.getBaseFormFromSuffixes(form, tag));
+                }
+            }
+        }
+    }
+
+    String getBaseFormLinear(List<AbstractAffixMatcher> matchers, Set<String> baseSet, String form, String pos) {
+        String base;
+
+        for (AbstractAffixMatcher matcher : matchers) {
+            base = matcher.getBaseForm(baseSet, form, pos);
+            if (base != null) return base;
+        }
+
+        return null;
+    }
+}
@@ -16,8 +16,11 @@
 
 package cloud.elit.ddr.lemmatize.english;
 
+import java.util.Arrays;
 import cloud.elit.ddr.lemmatize.Lemmatizer;
 import cloud.elit.ddr.util.MetaConst;
+import cloud.elit.sdk.structure.Document;
+import cloud.elit.sdk.structure.Sentence;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -172,4 +175,28 @@ public class EnglishLemmatizerTest {
             assertEquals(token[2], lemma);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBatch() {
+        String[] forms = {"studies", "running", "n't", "mice", "third", "12.34", "took"};
+        String[] tags = {"VBZ", "VBG", "RB", "NNS", "JJ", "CD", "VBD"};
+        Lemmatizer lemmatizer = new EnglishLemmatizer();
+        String[] lemmas = lemmatizer.getLemmas(forms, tags);
+
+        for (int i = 0; i < forms.length; i++)
+            assertEquals(lemmatizer.getLemma(forms[i], tags[i]), lemmas[i]);
+
+        Document document = new Document();
+
+        for (int i = 0; i < 100; i++) {
+            Sentence sentence = new Sentence(Arrays.asList(forms));
+            for (int j = 0; j < tags.length; j++) sentence.get(j).setPartOfSpeechTag(tags[j]);
+            document.add(sentence);
+        }
+
+        lemmatizer.lemmatize(document, true);
+
+        for (Sentence sentence : document)
+            assertArrayEquals(lemmas, sentence.getLemmas().toArray(new String[0]));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompactCharAffixTreeTest {
+    @Test
+    public void test() {
+        List<String> affixes = Arrays.asList("a", "ab", "abc", "b", "bca", "cc", ":)", ":-)");
+        Random rand = new Random(0);
+        String alphabet = "abc:-)";
+
+        for (boolean prefix : new boolean[]{true, false}) {
+            CharAffixTree tree = new CharAffixTree(prefix, affixes);
+            CompactCharAffixTree compact = new CompactCharAffixTree(prefix, affixes);
+
+            for (int k = 0; k < 1000; k++) {
+                StringBuilder build = new StringBuilder();
+                for (int i = rand.nextInt(8); i > 0; i--) build.append(alphabet.charAt(rand.nextInt(alphabet.length())));
+                String s = build.toString();
+
+                for (boolean minimum : new boolean[]{true, false}) {
+                    assertEquals(s, tree.getAffixIndex(s, minimum), compact.getAffixIndex(s, minimum));
+                    assertEquals(s, tree.getAffixIndex(s, minimum), compact.getAffixIndex(build, minimum));
+                }
+
+                assertEquals(affixes.contains(s), compact.contains(s));
+            }
+        }
+
+        CompactCharAffixTree suffix = new CompactCharAffixTree(false, affixes);
+        assertEquals(1, suffix.getAffixIndex("xbcay", 0, 4, false));
+        assertEquals(3, suffix.getAffixIndex("xbcay", 0, 4, true));
+        assertEquals(2, suffix.getAffixIndex("xx:-)yy", 0, 5, false));
+        assertEquals(-1, suffix.getAffixIndex("xx:-)yy", 3, 5, false));
+        assertTrue(suffix.contains("xxbcayy", 2, 5));
+        assertFalse(suffix.contains("xxbcayy", 2, 4));
+
+        CompactCharAffixTree prefix = new CompactCharAffixTree(true, affixes);
+        assertEquals(4, prefix.getAffixIndex("xxabcyy", 2, 7, false));
+        assertEquals(2, prefix.getAffixIndex("xxabcyy", 2, 7, true));
+        assertEquals(3, prefix.getAffixIndex("xxabcyy", 2, 4, false));
+        assertTrue(MetaUtils.endsWithFileExtension(new StringBuilder("report.pdf")));
+        assertFalse(MetaUtils.endsWithFileExtension("pdf"));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StringAutomatonTest {
+    final String ROOT = "lemmatize/english/";
+
+    @Test
+    public void testSet() throws Exception {
+        StringAutomaton fsa = StringAutomaton.build(Arrays.asList("top", "tops", "tap", "taps", "t", "", "top"));
+        assertEquals(5, fsa.size());
+        assertEquals(Arrays.asList("t", "tap", "taps", "top", "tops"), fsa.toList());
+        assertTrue(fsa.contains("taps"));
+        assertFalse(fsa.contains("ta"));
+        assertFalse(fsa.contains("tapss"));
+        assertFalse(fsa.contains(""));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        fsa.write(out);
+        assertEquals(fsa.toList(), StringAutomaton.read(ByteBuffer.wrap(out.toByteArray())).toList());
+
+        Set<String> base = DSUtils.createStringHashSet(IOUtils.getInputStreamsFromResource(ROOT + "noun.base"));
+        Set<String> set = StringAutomaton.build(base).asSet();
+        assertEquals(base, set);
+
+        for (String s : base) {
+            assertTrue(set.contains(s));
+            assertFalse(set.contains(s + "é"));
+        }
+    }
+
+    @Test
+    public void testMap() {
+        Map<String, String> exceptions = DSUtils.createStringHashMap(IOUtils.getInputStreamsFromResource(ROOT + "verb.exc"), Splitter.T_SPACE);
+        Map<String, String> map = StringAutomaton.build(exceptions).asMap();
+        assertEquals(exceptions, map);
+
+        List<String> keys = new ArrayList<>(exceptions.keySet());
+        Collections.sort(keys);
+
+        for (String key : keys) {
+            assertEquals(exceptions.get(key), map.get(key));
+            assertNull(map.get(key.substring(0, key.length() - 1) + "é"));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.ddr.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StringUtilsTest {
+    @Test
+    public void testCase() {
+        String s = "abc";
+        assertSame(s, StringUtils.toLowerCase(s));
+        assertEquals("ABCÉ", StringUtils.toUpperCase("abcé"));
+        assertEquals("abcé", StringUtils.toLowerCase("aBCÉ"));
+
+        StringBuilder buffer = new StringBuilder("garbage");
+        assertFalse(StringUtils.toLowerCase(new StringBuilder("abc"), buffer));
+        assertEquals("abc", buffer.toString());
+        assertTrue(StringUtils.toUpperCase("abc", buffer));
+        assertEquals("ABC", buffer.toString());
+    }
+
+    @Test
+    public void testSimplifiedForm() {
+        String[] forms = {"Hello", "hello", "$1,234.56", "1990's", "10%", "A:1:2", "!!!!", "??!!!", "“Quote”", "www.emory.edu", "file.PDF", "3/4", "=2"};
+
+        for (String form : forms) {
+            for (boolean uncapitalize : new boolean[]{true, false}) {
+                String s = StringUtils.generalizeSymbols(form);
+                s = StringUtils.collapsePunctuation(StringUtils.collapseDigits(s));
+                if (uncapitalize) s = StringUtils.toLowerCase(s);
+                if (MetaUtils.endsWithFileExtension(form) || MetaUtils.containsHyperlink(form)) s = MetaConst.HYPERLINK;
+                assertEquals(form, s, StringUtils.toSimplifiedForm(form, uncapitalize));
+            }
+        }
+
+        String s = "hello";
+        assertSame(s, StringUtils.toSimplifiedForm(s, true));
+
+        StringBuilder buffer = new StringBuilder();
+        assertTrue(StringUtils.toSimplifiedForm(new StringBuilder("$1,234.56!!!"), false, buffer));
+        assertEquals("0!!", buffer.toString());
+        assertFalse(StringUtils.toSimplifiedForm("hello", true, buffer));
+    }
+}
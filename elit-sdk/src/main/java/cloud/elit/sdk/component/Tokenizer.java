@@ -0,0 +1,28 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cloud.elit.sdk.component;
+
+import cloud.elit.sdk.structure.Document;
+
+/**
+ * The abstract class to be inherited by all tokenizers, which take raw text and return a document of tokenized sentences.
+ *
+ * @param <P> the type of custom parameters.
+ */
+public abstract class Tokenizer<P extends Parameters> extends Component<String, Document, P> {
+
+}
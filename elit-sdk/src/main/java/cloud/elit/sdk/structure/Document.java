@@ -20,15 +20,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.StringJoiner;
-import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import cloud.elit.sdk.structure.node.NLPNode;
-import cloud.elit.sdk.structure.util.Fields;
 
 /**
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
@@ -43,95 +35,16 @@ public class Document implements Serializable, Iterable<Sentence> {
         sentences = new ArrayList<>();
     }
 
+    /**
+     * @param json the ELIT JSON output containing the {@code output} array.
+     * @throws IllegalArgumentException if the JSON cannot be parsed.
+     * @see DocumentReader
+     */
     public Document(String json) {
-        this();
-        ObjectMapper mapper = new ObjectMapper();
-
-        try {
-            JsonNode top = mapper.readTree(json);
-            JsonNode output = top.findValue("output");
-
-            for (JsonNode o : output) {
-                // required fields
-                int sen_id = o.findValue(Fields.SID).asInt();
-                List<NLPNode> nodes = toNodeList(o.findValue(Fields.TOK));
-                Sentence sentence = new Sentence(sen_id, nodes);
-                add(sentence);
-
-                // optional fields
-                setOffsets(nodes, o.findValue(Fields.OFF));
-                setStringList(nodes, o.findValue(Fields.LEM), NLPNode::setLemma);
-                setStringList(nodes, o.findValue(Fields.POS), NLPNode::setPartOfSpeechTag);
-                sentence.setNamedEntities(toEntityList(nodes, o.findValue(Fields.NER)));
-                setPrimaryDependencies(sentence, o.findValue(Fields.DEP));
-            }
-
+        try (DocumentReader reader = new DocumentReader(json)) {
+            sentences = reader.read().get();
         } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    private List<NLPNode> toNodeList(JsonNode json) {
-        List<NLPNode> list = new ArrayList<>();
-        int i = 0;
-
-        for (JsonNode token : json) {
-            list.add(new NLPNode(i++, token.asText()));
-        }
-
-        return list;
-    }
-
-    private void setOffsets(List<NLPNode> nodes, JsonNode json) {
-        if (json == null) return;
-        int i = 0;
-
-        for (JsonNode node : json) {
-            Iterator<JsonNode> it = node.iterator();
-            nodes.get(i).setBeginOffset(it.next().asInt());
-            nodes.get(i++).setEndOffset(it.next().asInt());
-        }
-    }
-
-    private void setStringList(List<NLPNode> nodes, JsonNode json, BiConsumer<NLPNode, String> c) {
-        if (json == null) return;
-        int i = 0;
-
-        for (JsonNode node : json) {
-            c.accept(nodes.get(i++), node.asText());
-        }
-    }
-
-    private List<Chunk> toEntityList(List<NLPNode> nodes, JsonNode json) {
-        if (json == null) return null;
-        List<Chunk> chunks = new ArrayList<>();
-
-        for (JsonNode node : json) {
-            Iterator<JsonNode> it = node.iterator();
-            int begin = it.next().asInt();
-            int end = it.next().asInt();
-            String label = it.next().asText();
-
-            Chunk chunk = new Chunk();
-            chunk.setNodes(IntStream.range(begin, end).mapToObj(nodes::get).collect(Collectors.toList()));
-            chunk.setLabel(label);
-            chunks.add(chunk);
-        }
-
-        return chunks;
-    }
-
-    private void setPrimaryDependencies(Sentence sentence, JsonNode json) {
-        if (json == null) return;
-        List<NLPNode> nodes = sentence.getNodes();
-        int i = 0;
-
-        for (JsonNode node : json) {
-            Iterator<JsonNode> it = node.iterator();
-            int head_id = it.next().asInt();
-            NLPNode head = (head_id < 0) ? sentence.getRoot() : nodes.get(head_id);
-            String label = it.next().asText();
-            nodes.get(i++).setParent(head, label);
+            throw new IllegalArgumentException("Invalid ELIT JSON", e);
         }
     }
 
@@ -183,18 +96,18 @@ public class Document implements Serializable, Iterable<Sentence> {
 
     //  =================================== String ===================================
 
+    /**
+     * @see DocumentWriter
+     */
     @Override
     public String toString() {
-        StringJoiner joiner = new StringJoiner(",");
-        for (Sentence s : sentences)
-            joiner.add(s.toString());
-        return "[" + joiner.toString() + "]";
+        return DocumentWriter.toString(this);
     }
 
+    /**
+     * @see TSVWriter
+     */
     public String toTSV() {
-        StringJoiner joiner = new StringJoiner("\n\n");
-        for (Sentence s : sentences)
-            joiner.add(s.toTSV());
-        return joiner.toString();
+        return TSVWriter.toString(this);
     }
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import cloud.elit.sdk.structure.node.NLPNode;
+import cloud.elit.sdk.structure.util.Fields;
+
+/**
+ * Reads sentences from the {@code output} array of the ELIT JSON format with a streaming parser,
+ * where nodes are filled directly from the parser tokens without building a JSON tree.
+ * Fields in each sentence may appear in any order; unknown fields are skipped.
+ * Sentences are parsed one at a time as they are iterated, so only the current sentence is kept in memory.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class DocumentReader implements Iterator<Sentence>, Closeable {
+    static private final JsonFactory FACTORY = new JsonFactory();
+    static private final String OUTPUT = "output";
+    private final JsonParser parser;
+    private Sentence next;
+    private boolean done;
+
+    public DocumentReader(String json) throws IOException {
+        this(FACTORY.createParser(json));
+    }
+
+    /**
+     * @param reader closed by {@link #close()}.
+     */
+    public DocumentReader(Reader reader) throws IOException {
+        this(FACTORY.createParser(reader));
+    }
+
+    /**
+     * @param in closed by {@link #close()}; the encoding is detected from the stream.
+     */
+    public DocumentReader(InputStream in) throws IOException {
+        this(FACTORY.createParser(in));
+    }
+
+    /**
+     * Moves the parser to the first {@code output} array.
+     * @throws JsonParseException if the input does not contain the array.
+     */
+    private DocumentReader(JsonParser parser) throws IOException {
+        this.parser = parser;
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME && OUTPUT.equals(parser.getCurrentName()) &&
+                    parser.nextToken() == JsonToken.START_ARRAY)
+                return;
+        }
+
+        throw new JsonParseException(parser, "No \"" + OUTPUT + "\" array is found");
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * @return the document consisting of all remaining sentences.
+     */
+    public Document read() throws IOException {
+        Document document = new Document();
+        if (next != null) document.add(next);
+        Sentence sentence;
+
+        while ((sentence = nextSentence()) != null)
+            document.add(sentence);
+
+        next = null;
+        return document;
+    }
+
+    //  =================================== Iterator ===================================
+
+    /**
+     * @throws IllegalArgumentException if the next sentence cannot be parsed.
+     * @throws UncheckedIOException if the input cannot be read.
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = nextSentence();
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid ELIT JSON", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read the ELIT JSON", e);
+            }
+        }
+
+        return next != null;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the next sentence cannot be parsed.
+     * @throws UncheckedIOException if the input cannot be read.
+     */
+    @Override
+    public Sentence next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Sentence sentence = next;
+        next = null;
+        return sentence;
+    }
+
+    /**
+     * The returned spliterator splits by taking batches of sentences from this reader,
+     * so a parallel stream parses sequentially but processes the batches in parallel.
+     */
+    public Spliterator<Sentence> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return the sequential stream of the remaining sentences, which can be turned into a parallel stream.
+     * @see #spliterator()
+     */
+    public Stream<Sentence> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    //  =================================== Parse ===================================
+
+    /**
+     * @return the next sentence in the output array if exists; otherwise, {@code null}.
+     */
+    private Sentence nextSentence() throws IOException {
+        if (done) return null;
+        JsonToken token = parser.nextToken();
+
+        if (token == JsonToken.END_ARRAY || token == null) {
+            done = true;
+            return null;
+        }
+
+        expect(token, JsonToken.START_OBJECT);
+
+        Sentence sentence = new Sentence();
+        List<NLPNode> nodes = sentence.getNodes();
+        List<Chunk> entities = null;
+
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (field) {
+                case Fields.SID:
+                    expect(parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT);
+                    sentence.setID(parser.getIntValue());
+                    break;
+                case Fields.TOK:
+                    readStrings(nodes, NLPNode::setToken);
+                    break;
+                case Fields.OFF:
+                    readOffsets(nodes);
+                    break;
+                case Fields.LEM:
+                    readStrings(nodes, NLPNode::setLemma);
+                    break;
+                case Fields.POS:
+                    readStrings(nodes, NLPNode::setPartOfSpeechTag);
+                    break;
+                case Fields.NER:
+                    entities = readEntities(nodes);
+                    break;
+                case Fields.DEP:
+                    readPrimaryDependencies(sentence);
+                    break;
+                case Fields.DEP2:
+                    readSecondaryDependencies(sentence);
+                    break;
+                case Fields.SEM:
+                    readSemanticTags(nodes);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        expect(token, JsonToken.END_OBJECT);
+        sentence.setNamedEntities(entities);
+        return sentence;
+    }
+
+    /**
+     * Fields other than {@link Fields#TOK} can come first, so nodes are created as soon as they are referred to.
+     * @return the index'th node in the list.
+     */
+    private NLPNode getNode(List<NLPNode> nodes, int index) {
+        while (nodes.size() <= index)
+            nodes.add(new NLPNode(nodes.size(), null));
+
+        return nodes.get(index);
+    }
+
+    private NLPNode getNode(Sentence sentence, int index) {
+        return index < 0 ? sentence.getRoot() : getNode(sentence.getNodes(), index);
+    }
+
+    private void readStrings(List<NLPNode> nodes, BiConsumer<NLPNode, String> setter) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++)
+            setter.accept(getNode(nodes, i), parser.getText());
+    }
+
+    private void readOffsets(List<NLPNode> nodes) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        for (int i = 0; parser.nextToken() == JsonToken.START_ARRAY; i++) {
+            NLPNode node = getNode(nodes, i);
+            node.setBeginOffset(nextInt());
+            node.setEndOffset(nextInt());
+            expect(parser.nextToken(), JsonToken.END_ARRAY);
+        }
+    }
+
+    /**
+     * Each entity is {@code [begin, end, label]}, where the end index is exclusive and the label is optional.
+     */
+    private List<Chunk> readEntities(List<NLPNode> nodes) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+        List<Chunk> entities = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            int begin = nextInt();
+            int end = nextInt();
+            Chunk chunk = new Chunk(new ArrayList<>(end - begin));
+
+            for (int i = begin; i < end; i++)
+                chunk.add(getNode(nodes, i));
+
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                chunk.setLabel(parser.getText());
+                expect(parser.nextToken(), JsonToken.END_ARRAY);
+            }
+
+            entities.add(chunk);
+        }
+
+        return entities;
+    }
+
+    /**
+     * Each dependency is {@code [head_id, label]} for the node at the same index, where the root is {@code -1}.
+     */
+    private void readPrimaryDependencies(Sentence sentence) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        for (int i = 0; parser.nextToken() == JsonToken.START_ARRAY; i++) {
+            NLPNode node = getNode(sentence, i);
+            NLPNode head = getNode(sentence, nextInt());
+            node.setParent(head, nextString());
+            expect(parser.nextToken(), JsonToken.END_ARRAY);
+        }
+    }
+
+    /**
+     * Each dependency is {@code [node_id, head_id, label]}.
+     */
+    private void readSecondaryDependencies(Sentence sentence) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            NLPNode node = getNode(sentence, nextInt());
+            NLPNode head = getNode(sentence, nextInt());
+            node.addSecondaryParent(head, nextString());
+            expect(parser.nextToken(), JsonToken.END_ARRAY);
+        }
+    }
+
+    /**
+     * Each tag is {@code [node_id, tag]}.
+     */
+    private void readSemanticTags(List<NLPNode> nodes) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            NLPNode node = getNode(nodes, nextInt());
+            node.putFeat(Fields.SEM, nextString());
+            expect(parser.nextToken(), JsonToken.END_ARRAY);
+        }
+    }
+
+    private int nextInt() throws IOException {
+        expect(parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    private String nextString() throws IOException {
+        parser.nextToken();
+        return parser.getText();
+    }
+
+    private void expect(JsonToken token, JsonToken expected) throws JsonParseException {
+        if (token != expected)
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + token);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import cloud.elit.sdk.structure.node.NLPArc;
+import cloud.elit.sdk.structure.node.NLPNode;
+import cloud.elit.sdk.structure.util.Fields;
+
+/**
+ * Writes sentences in the ELIT JSON format with a streaming generator, which is read back by {@link DocumentReader}.
+ * Optional fields are written only when the first node has them, the same as {@link Sentence#toString()}.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class DocumentWriter implements Closeable, Flushable {
+    static private final JsonFactory FACTORY = new JsonFactory();
+    static private final String OUTPUT = "output";
+    private final JsonGenerator generator;
+
+    /**
+     * @param writer closed by {@link #close()}.
+     */
+    public DocumentWriter(Writer writer) throws IOException {
+        generator = FACTORY.createGenerator(writer);
+    }
+
+    /**
+     * @param out closed by {@link #close()}; the output is encoded in UTF-8.
+     */
+    public DocumentWriter(OutputStream out) throws IOException {
+        generator = FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    /**
+     * @return the JSON array of the sentences in the document.
+     */
+    static public String toString(Document document) {
+        StringWriter writer = new StringWriter();
+
+        try (DocumentWriter out = new DocumentWriter(writer)) {
+            out.write(document);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * @return the JSON object of the sentence.
+     */
+    static public String toString(Sentence sentence) {
+        StringWriter writer = new StringWriter();
+
+        try (DocumentWriter out = new DocumentWriter(writer)) {
+            out.write(sentence);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return writer.toString();
+    }
+
+    //  =================================== Document ===================================
+
+    /**
+     * Writes the sentences in the document as a JSON array.
+     */
+    public void write(Document document) throws IOException {
+        write(document.iterator());
+    }
+
+    /**
+     * Writes the sentences as a JSON array, where each sentence is written as soon as it is taken from the iterator.
+     */
+    public void write(Iterator<Sentence> sentences) throws IOException {
+        generator.writeStartArray();
+
+        while (sentences.hasNext())
+            write(sentences.next());
+
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the sentences as the {@code output} array of a JSON object, which can be read by {@link DocumentReader}.
+     */
+    public void writeOutput(Iterator<Sentence> sentences) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(OUTPUT);
+        write(sentences);
+        generator.writeEndObject();
+    }
+
+    //  =================================== Sentence ===================================
+
+    public void write(Sentence sentence) throws IOException {
+        List<NLPNode> nodes = sentence.getNodes();
+        generator.writeStartObject();
+
+        if (!nodes.isEmpty()) {
+            NLPNode node = nodes.get(0);
+
+            generator.writeNumberField(Fields.SID, sentence.getID());
+            writeStrings(Fields.TOK, nodes, NLPNode::getToken);
+            if (node.getEndOffset() > 0) writeOffsets(nodes);
+            if (node.getLemma() != null) writeStrings(Fields.LEM, nodes, NLPNode::getLemma);
+            if (node.getPartOfSpeechTag() != null) writeStrings(Fields.POS, nodes, NLPNode::getPartOfSpeechTag);
+
+            List<Chunk> entities = sentence.getNamedEntities();
+            if (entities != null && !entities.isEmpty()) writeNamedEntities(entities);
+
+            if (node.getDependencyLabel() != null) writePrimaryDependencies(nodes);
+            writeSecondaryDependencies(nodes);
+            writeSemanticTags(nodes);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeStrings(String field, List<NLPNode> nodes, Function<NLPNode, String> f) throws IOException {
+        generator.writeArrayFieldStart(field);
+
+        for (NLPNode node : nodes)
+            generator.writeString(f.apply(node));
+
+        generator.writeEndArray();
+    }
+
+    private void writeOffsets(List<NLPNode> nodes) throws IOException {
+        generator.writeArrayFieldStart(Fields.OFF);
+
+        for (NLPNode node : nodes) {
+            generator.writeStartArray();
+            generator.writeNumber(node.getBeginOffset());
+            generator.writeNumber(node.getEndOffset());
+            generator.writeEndArray();
+        }
+
+        generator.writeEndArray();
+    }
+
+    /**
+     * Each entity is written as {@code [begin, end, label]}, where the end index is exclusive.
+     */
+    private void writeNamedEntities(List<Chunk> entities) throws IOException {
+        generator.writeArrayFieldStart(Fields.NER);
+
+        for (Chunk chunk : entities) {
+            generator.writeStartArray();
+
+            if (chunk.size() > 0) {
+                generator.writeNumber(chunk.get(0).getTokenID());
+                generator.writeNumber(chunk.get(chunk.size() - 1).getTokenID() + 1);
+                if (chunk.getLabel() != null) generator.writeString(chunk.getLabel());
+            }
+
+            generator.writeEndArray();
+        }
+
+        generator.writeEndArray();
+    }
+
+    private void writePrimaryDependencies(List<NLPNode> nodes) throws IOException {
+        generator.writeArrayFieldStart(Fields.DEP);
+
+        for (NLPNode node : nodes) {
+            generator.writeStartArray();
+            generator.writeNumber(node.getParent().getTokenID());
+            generator.writeString(node.getDependencyLabel());
+            generator.writeEndArray();
+        }
+
+        generator.writeEndArray();
+    }
+
+    /**
+     * The field is written only if at least one node has a secondary parent.
+     */
+    private void writeSecondaryDependencies(List<NLPNode> nodes) throws IOException {
+        boolean started = false;
+
+        for (NLPNode node : nodes) {
+            for (NLPArc arc : node.getSecondaryParents()) {
+                if (!started) {
+                    generator.writeArrayFieldStart(Fields.DEP2);
+                    started = true;
+                }
+
+                generator.writeStartArray();
+                generator.writeNumber(node.getTokenID());
+                generator.writeNumber(arc.getNode().getTokenID());
+                generator.writeString(arc.getLabel());
+                generator.writeEndArray();
+            }
+        }
+
+        if (started) generator.writeEndArray();
+    }
+
+    /**
+     * The field is written only if at least one node has a semantic tag.
+     */
+    private void writeSemanticTags(List<NLPNode> nodes) throws IOException {
+        boolean started = false;
+
+        for (NLPNode node : nodes) {
+            String tag = node.getFeat(Fields.SEM);
+            if (tag == null) continue;
+
+            if (!started) {
+                generator.writeArrayFieldStart(Fields.SEM);
+                started = true;
+            }
+
+            generator.writeStartArray();
+            generator.writeNumber(node.getTokenID());
+            generator.writeString(tag);
+            generator.writeEndArray();
+        }
+
+        if (started) generator.writeEndArray();
+    }
+}
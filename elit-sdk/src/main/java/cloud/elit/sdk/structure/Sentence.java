@@ -20,14 +20,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.StringJoiner;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
 import cloud.elit.sdk.structure.node.NLPNode;
 import cloud.elit.sdk.structure.util.ELITUtils;
-import cloud.elit.sdk.structure.util.Fields;
 
 /**
  * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
@@ -166,93 +162,17 @@ public class Sentence implements Serializable, Comparable<Sentence>, Iterable<NL
         return sen_id - o.sen_id;
     }
 
+    /**
+     * @see DocumentWriter
+     */
     public String toString() {
-        if (nodes.isEmpty()) return "{}";
-        NLPNode node = nodes.get(0);
-        StringJoiner joiner = new StringJoiner(",");
-
-        joiner.add("\"" + Fields.SID + "\":" + sen_id);
-        joiner.add("\"" + Fields.TOK + "\":" + toStringList(NLPNode::getToken));
-        if (node.getEndOffset() > 0) joiner.add("\"" + Fields.OFF + "\":" + toStringOffsets());
-        if (node.getLemma() != null) joiner.add("\"" + Fields.LEM + "\":" + toStringList(NLPNode::getLemma));
-
-        if (node.getPartOfSpeechTag() != null) joiner.add("\"" + Fields.POS + "\":" + toStringList(
-                NLPNode::getPartOfSpeechTag));
-
-        if (named_entities != null && !named_entities.isEmpty()) joiner.add("\"" + Fields.NER + "\":" + named_entities
-                .toString());
-
-        if (node.getDependencyLabel() != null) joiner.add("\"" + Fields.DEP + "\":" + toStringPrimaryDependencies());
-
-        String s = toStringSecondaryDependencies();
-        if (s != null) joiner.add("\"" + Fields.DEP2 + "\":" + s);
-
-        s = toStringSemanticTags();
-        if (s != null) joiner.add("\"" + Fields.SEM + "\":" + s);
-
-        return "{" + joiner.toString() + "}";
-    }
-
-    private String toStringList(Function<NLPNode, String> f) {
-        return "[" + nodes.stream().map(n -> "\"" + f.apply(n).replace("\"", "\\\"") + "\"").collect(Collectors.joining(
-                ",")) + "]";
-    }
-
-    private String toStringOffsets() {
-        return "[" + nodes.stream().map(n -> "[" + n.getBeginOffset() + "," + n.getEndOffset() + "]").collect(Collectors
-                .joining(",")) + "]";
-    }
-
-    private String toStringPrimaryDependencies() {
-        return "[" + nodes.stream().map(n -> "[" + n.getParent().getTokenID() + ",\"" + n.getDependencyLabel() + "\"]")
-                .collect(Collectors.joining(",")) + "]";
-    }
-
-    private String toStringSecondaryDependencies() {
-        StringJoiner join = new StringJoiner(",");
-
-        for (NLPNode node : nodes) {
-            String s = node.getSecondaryParents().stream().map(a -> "[" + node.getTokenID() + "," + a.getNode()
-                    .getTokenID() + ",\"" + a.getLabel() + "\"]").collect(Collectors.joining(","));
-            if (s.length() > 0) join.add(s);
-        }
-
-        return join.length() > 0 ? "[" + join.toString() + "]" : null;
-    }
-
-    private String toStringSemanticTags() {
-        StringJoiner join = new StringJoiner(",");
-
-        for (NLPNode node : nodes) {
-            String s = node.getFeat(Fields.SEM);
-            if (s != null) join.add("[" + node.getTokenID() + ",\"" + s + "\"]");
-        }
-
-        return join.length() > 0 ? "[" + join.toString() + "]" : null;
+        return DocumentWriter.toString(this);
     }
 
+    /**
+     * @see TSVWriter
+     */
     public String toTSV() {
-        List<List<String>> conll = nodes.stream().map(NLPNode::toTSV).collect(toList());
-        if (named_entities != null) toTSVNamedEntities(conll);
-        return conll.stream().map(l -> l.stream().collect(Collectors.joining("\t"))).collect(Collectors.joining("\n"));
-    }
-
-    private void toTSVNamedEntities(List<List<String>> conll) {
-        for (Chunk c : named_entities) {
-            int bidx = c.get(0).getTokenID();
-            int eidx = c.get(c.size() - 1).getTokenID();
-
-            if (bidx == eidx) conll.get(bidx).add("U-" + c.getLabel());
-            else {
-                conll.get(bidx).add("B-" + c.getLabel());
-                conll.get(eidx).add("L-" + c.getLabel());
-                for (int i = bidx + 1; i < eidx; i++)
-                    conll.get(i).add("I-" + c.getLabel());
-            }
-        }
-
-        for (List<String> c : conll) {
-            if (c.size() < 9) c.add("O");
-        }
+        return TSVWriter.toString(this);
     }
 }
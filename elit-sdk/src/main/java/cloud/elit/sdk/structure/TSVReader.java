@@ -0,0 +1,298 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import cloud.elit.sdk.structure.node.NLPNode;
+
+/**
+ * Reads sentences in the TSV format written by {@link TSVWriter}, where sentences are separated by blank lines.
+ * Each sentence is rebuilt in one pass over its rows, including the primary and secondary dependencies,
+ * the feats, and the named entities decoded from the BILOU tags in the optional last column.
+ * Values written as {@code _} are read as {@code null}, except for tokens; sentence IDs are assigned in order.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ * @see TSVWriter
+ */
+public class TSVReader implements Iterator<Sentence>, Closeable {
+    static private final String BLANK = "_";
+    static private final int COLUMNS = 9;
+
+    private final BufferedReader reader;
+    private List<String> next;
+    private int sen_id;
+
+    /**
+     * @param reader closed by {@link #close()}.
+     */
+    public TSVReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * @param in closed by {@link #close()}; the input is decoded in UTF-8.
+     */
+    public TSVReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return the document consisting of all remaining sentences.
+     */
+    public Document read() {
+        Document document = new Document();
+        forEachRemaining(document::add);
+        return document;
+    }
+
+    //  =================================== Iterator ===================================
+
+    /**
+     * @throws IllegalArgumentException if the input cannot be read.
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) next = nextRows();
+        return next != null;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the next sentence cannot be read or parsed.
+     */
+    @Override
+    public Sentence next() {
+        Block block = nextBlock();
+        return toSentence(block.sen_id, block.rows);
+    }
+
+    /**
+     * Rows are read sequentially, whereas a parallel stream parses the sentences concurrently; the order is kept
+     * by {@link Stream#forEachOrdered} and {@link Stream#collect}.
+     * @return the stream of the remaining sentences.
+     */
+    public Stream<Sentence> stream(boolean parallel) {
+        Iterator<Block> blocks = new Iterator<Block>() {
+            @Override
+            public boolean hasNext() {
+                return TSVReader.this.hasNext();
+            }
+
+            @Override
+            public Block next() {
+                return nextBlock();
+            }
+        };
+
+        Spliterator<Block> spliterator = Spliterators.spliteratorUnknownSize(blocks, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, parallel).map(b -> toSentence(b.sen_id, b.rows));
+    }
+
+    /**
+     * @return the rows of the next sentence with its ID.
+     */
+    private Block nextBlock() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Block block = new Block(sen_id++, next);
+        next = null;
+        return block;
+    }
+
+    /**
+     * @return the rows until the next blank line if exist; otherwise, {@code null}.
+     */
+    private List<String> nextRows() {
+        List<String> rows = new ArrayList<>();
+        String line;
+
+        try {
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) rows.add(line);
+                else if (!rows.isEmpty()) break;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read the TSV input", e);
+        }
+
+        return rows.isEmpty() ? null : rows;
+    }
+
+    static private class Block {
+        private final int sen_id;
+        private final List<String> rows;
+
+        Block(int sen_id, List<String> rows) {
+            this.sen_id = sen_id;
+            this.rows = rows;
+        }
+    }
+
+    //  =================================== Parse ===================================
+
+    /**
+     * Creates all nodes first so heads can be referred to before their rows, then links the dependencies.
+     * This method does not use any state of the reader so it can be called concurrently.
+     * @throws IllegalArgumentException if any row is not in the TSV format.
+     */
+    static private Sentence toSentence(int sen_id, List<String> rows) {
+        int size = rows.size();
+        List<NLPNode> nodes = new ArrayList<>(size);
+        String[][] table = new String[size][];
+        boolean ner = false;
+
+        for (int i = 0; i < size; i++) {
+            String[] row = split(rows.get(i));
+            if (row[6] == null) throw new IllegalArgumentException("Invalid TSV row: " + rows.get(i));
+            NLPNode node = new NLPNode(i, row[1], toValue(row[3]));
+
+            node.setLemma(toValue(row[2]));
+            setFeats(node, row[4]);
+            nodes.add(node);
+            table[i] = row;
+            ner |= row[COLUMNS - 1] != null;
+        }
+
+        Sentence sentence = new Sentence(sen_id, nodes);
+
+        try {
+            for (int i = 0; i < size; i++) {
+                String[] row = table[i];
+                NLPNode node = nodes.get(i);
+
+                if (!BLANK.equals(row[5]))
+                    node.setParent(sentence.get(Integer.parseInt(row[5]) - 1), toValue(row[6]));
+
+                if (row[7] != null && !BLANK.equals(row[7]))
+                    setSecondaryParents(sentence, node, row[7]);
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid head ID in the sentence " + sen_id, e);
+        }
+
+        sentence.setNamedEntities(ner ? toNamedEntities(nodes, table) : null);
+        return sentence;
+    }
+
+    /**
+     * @return the first {@link #COLUMNS} fields of the row, where missing fields are {@code null}.
+     */
+    static private String[] split(String row) {
+        String[] fields = new String[COLUMNS];
+        int begin = 0, end;
+
+        for (int i = 0; i < COLUMNS && begin <= row.length(); i++) {
+            end = row.indexOf('\t', begin);
+            if (end < 0) end = row.length();
+            fields[i] = row.substring(begin, end);
+            begin = end + 1;
+        }
+
+        return fields;
+    }
+
+    static private String toValue(String field) {
+        return field == null || BLANK.equals(field) ? null : field;
+    }
+
+    /**
+     * @param feats {@code key=value} pairs separated by {@code |}.
+     */
+    static private void setFeats(NLPNode node, String feats) {
+        if (feats == null || BLANK.equals(feats)) return;
+        Map<String, String> map = new HashMap<>();
+        int begin = 0, end, idx;
+
+        while (begin < feats.length()) {
+            end = feats.indexOf('|', begin);
+            if (end < 0) end = feats.length();
+            idx = feats.indexOf('=', begin);
+
+            if (0 <= idx && idx < end)
+                map.put(feats.substring(begin, idx), feats.substring(idx + 1, end));
+
+            begin = end + 1;
+        }
+
+        node.setFeatMap(map);
+    }
+
+    /**
+     * @param arcs {@code head_id:label} pairs separated by {@code |}.
+     */
+    static private void setSecondaryParents(Sentence sentence, NLPNode node, String arcs) {
+        int begin = 0, end, idx;
+
+        while (begin < arcs.length()) {
+            end = arcs.indexOf('|', begin);
+            if (end < 0) end = arcs.length();
+            idx = arcs.indexOf(':', begin);
+            if (idx < 0 || idx > end) throw new IllegalArgumentException("Invalid secondary dependency: " + arcs);
+
+            NLPNode head = sentence.get(Integer.parseInt(arcs.substring(begin, idx)) - 1);
+            node.addSecondaryParent(head, arcs.substring(idx + 1, end));
+            begin = end + 1;
+        }
+    }
+
+    /**
+     * Decodes the BILOU tags, where {@code I} or {@code L} tags without a preceding {@code B} start new entities.
+     */
+    static private List<Chunk> toNamedEntities(List<NLPNode> nodes, String[][] table) {
+        List<Chunk> entities = new ArrayList<>();
+        Chunk chunk = null;
+
+        for (int i = 0; i < nodes.size(); i++) {
+            String tag = table[i][COLUMNS - 1];
+
+            if (tag == null || tag.length() < 2 || tag.charAt(1) != '-') {
+                chunk = null;
+                continue;
+            }
+
+            char prefix = tag.charAt(0);
+            String label = tag.substring(2);
+
+            if (prefix == 'B' || prefix == 'U' || chunk == null || !label.equals(chunk.getLabel())) {
+                chunk = new Chunk(new ArrayList<>(), label);
+                entities.add(chunk);
+            }
+
+            chunk.add(nodes.get(i));
+            if (prefix == 'L' || prefix == 'U') chunk = null;
+        }
+
+        return entities;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import cloud.elit.sdk.structure.node.NLPArc;
+import cloud.elit.sdk.structure.node.NLPNode;
+
+/**
+ * Writes sentences in the TSV format, one row per node, directly into an {@link Appendable}.
+ * Each row consists of the token ID, token, lemma, part-of-speech tag, feats, head ID, dependency label,
+ * and secondary dependencies, followed by the named entity tag in the BILOU scheme if the sentence has named entities.
+ * Missing values are written as {@code _}; IDs are counted from 1, where the root is 0.
+ * This writer reuses internal buffers so it is not thread-safe.
+ * @author Jinho D. Choi ({@code jinho.choi@emory.edu})
+ */
+public class TSVWriter {
+    static private final String BLANK = "_";
+    private final Appendable out;
+
+    // reused across sentences
+    private final List<NLPArc> arcs;
+    private final List<String> keys;
+    private char[] bilou_tags;
+    private String[] bilou_labels;
+
+    public TSVWriter(Appendable out) {
+        this.out = out;
+        arcs = new ArrayList<>();
+        keys = new ArrayList<>();
+        bilou_tags = new char[0];
+        bilou_labels = new String[0];
+    }
+
+    /**
+     * @return the TSV representation of the document.
+     * @see #write(Document)
+     */
+    static public String toString(Document document) {
+        StringBuilder build = new StringBuilder();
+
+        try {
+            new TSVWriter(build).write(document);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return build.toString();
+    }
+
+    /**
+     * @return the TSV representation of the sentence.
+     * @see #write(Sentence)
+     */
+    static public String toString(Sentence sentence) {
+        StringBuilder build = new StringBuilder();
+
+        try {
+            new TSVWriter(build).write(sentence);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return build.toString();
+    }
+
+    /**
+     * Writes the sentences separated by blank lines, where no newline follows the last sentence.
+     */
+    public void write(Document document) throws IOException {
+        boolean first = true;
+
+        for (Sentence sentence : document) {
+            if (first) first = false;
+            else out.append("\n\n");
+            write(sentence);
+        }
+    }
+
+    /**
+     * Writes the rows separated by newlines, where no newline follows the last row.
+     */
+    public void write(Sentence sentence) throws IOException {
+        List<NLPNode> nodes = sentence.getNodes();
+        boolean ner = sentence.getNamedEntities() != null;
+        if (ner) setBILOUTags(sentence);
+
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) out.append('\n');
+            writeRow(nodes.get(i));
+
+            if (ner) {
+                out.append('\t');
+
+                if (bilou_labels[i] == null)
+                    out.append('O');
+                else {
+                    out.append(bilou_tags[i]).append('-').append(bilou_labels[i]);
+                    bilou_labels[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills {@link #bilou_tags} and {@link #bilou_labels} by the token IDs of the named entities.
+     */
+    private void setBILOUTags(Sentence sentence) {
+        int size = sentence.size();
+
+        if (bilou_labels.length < size) {
+            bilou_tags = new char[size];
+            bilou_labels = new String[size];
+        }
+
+        for (Chunk chunk : sentence.getNamedEntities()) {
+            if (chunk.size() == 0) continue;
+            int begin = chunk.get(0).getTokenID();
+            int end = chunk.get(chunk.size() - 1).getTokenID();
+
+            if (begin == end)
+                bilou_tags[begin] = 'U';
+            else {
+                bilou_tags[begin] = 'B';
+                bilou_tags[end] = 'L';
+                Arrays.fill(bilou_tags, begin + 1, end, 'I');
+            }
+
+            Arrays.fill(bilou_labels, begin, end + 1, chunk.getLabel());
+        }
+    }
+
+    private void writeRow(NLPNode node) throws IOException {
+        writeInt(node.getTokenID() + 1);
+        writeField(node.getToken());
+        writeField(node.getLemma());
+        writeField(node.getPartOfSpeechTag());
+        out.append('\t');
+        writeFeats(node.getFeatMap());
+        out.append('\t');
+
+        if (node.hasParent()) {
+            writeInt(node.getParent().getTokenID() + 1);
+            writeField(node.getDependencyLabel());
+        } else
+            out.append(BLANK).append('\t').append(BLANK);
+
+        out.append('\t');
+        writeSecondaryDependencies(node.getSecondaryParents());
+    }
+
+    private void writeField(String s) throws IOException {
+        out.append('\t').append(s != null ? s : BLANK);
+    }
+
+    /**
+     * Writes the feats as {@code key=value} pairs separated by {@code |}, sorted by their keys.
+     */
+    private void writeFeats(Map<String, String> feats) throws IOException {
+        if (feats == null || feats.isEmpty()) {
+            out.append(BLANK);
+            return;
+        }
+
+        keys.addAll(feats.keySet());
+        if (keys.size() > 1) Collections.sort(keys);
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) out.append('|');
+            String key = keys.get(i);
+            out.append(key).append('=').append(feats.get(key));
+        }
+
+        keys.clear();
+    }
+
+    /**
+     * Writes the arcs as {@code head_id:label} pairs separated by {@code |}, sorted by their head IDs.
+     */
+    private void writeSecondaryDependencies(List<NLPArc> parents) throws IOException {
+        if (parents == null || parents.isEmpty()) {
+            out.append(BLANK);
+            return;
+        }
+
+        arcs.addAll(parents);
+        if (arcs.size() > 1) Collections.sort(arcs);
+
+        for (int i = 0; i < arcs.size(); i++) {
+            if (i > 0) out.append('|');
+            NLPArc arc = arcs.get(i);
+            writeInt(arc.getNode().getTokenID() + 1);
+            out.append(':').append(arc.getLabel());
+        }
+
+        arcs.clear();
+    }
+
+    /**
+     * Writes the non-negative integer without creating a string.
+     */
+    private void writeInt(int n) throws IOException {
+        if (n >= 10) writeInt(n / 10);
+        out.append((char) ('0' + n % 10));
+    }
+}
@@ -589,9 +589,12 @@ public class NLPNode extends Node<NLPNode> implements Comparable<NLPNode> {
         return arcs.stream().sorted().map(NLPArc::toTSV).collect(Collectors.joining("|"));
     }
 
+    /**
+     * @return the feats as {@code key=value} pairs separated by {@code |}, sorted by their keys as in {@link cloud.elit.sdk.structure.TSVWriter}.
+     */
     public String toTSVFeatMap() {
         if (feat_map == null || feat_map.isEmpty()) return "_";
-        return feat_map.entrySet().stream().sorted().map(e -> e.getKey() + '=' + e.getValue()).collect(Collectors
+        return feat_map.entrySet().stream().sorted(Map.Entry.comparingByKey()).map(e -> e.getKey() + '=' + e.getValue()).collect(Collectors
                 .joining("|"));
     }
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import cloud.elit.sdk.structure.node.NLPNode;
+import cloud.elit.sdk.structure.util.Fields;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DocumentReaderTest {
+    static private final String JSON = "{\"pipeline\": {\"output\": 0}, \"output\": [" +
+            "{" +
+                "\"dep\": [[1, \"nsubj\"], [-1, \"root\"], [1, \"punct\"]]," +
+                "\"tok\": [\"\\\"A\\\\B\\\"\", \"runs\", \"!\"]," +
+                "\"sid\": 3," +
+                "\"extra\": {\"a\": [1, 2]}," +
+                "\"off\": [[0, 6], [7, 11], [11, 12]]," +
+                "\"ner\": [[0, 1, \"ORG\"]]," +
+                "\"dep2\": [[0, 1, \"A0\"]]," +
+                "\"sem\": [[1, \"ACT\"]]" +
+            "}," +
+            "{\"sid\": 4, \"tok\": [\"Yes\"]}]}";
+
+    @Test
+    public void testRead() throws IOException {
+        Document document;
+
+        try (DocumentReader reader = new DocumentReader(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)))) {
+            document = reader.read();
+        }
+
+        assertEquals(2, document.size());
+        Sentence sentence = document.get(0);
+        NLPNode node = sentence.get(0);
+
+        assertEquals(3, sentence.getID());
+        assertEquals("[\"A\\B\", runs, !]", sentence.getTokens().toString());
+        assertEquals(11, sentence.get(2).getBeginOffset());
+        assertSame(sentence.get(1), node.getParent());
+        assertEquals("nsubj", node.getDependencyLabel());
+        assertSame(sentence.getRoot(), sentence.get(1).getParent());
+        assertEquals("[[0,1,\"ORG\"]]", sentence.getNamedEntities().toString());
+        assertSame(sentence.get(1), node.getSecondaryParents().get(0).getNode());
+        assertEquals("ACT", sentence.get(1).getFeat(Fields.SEM));
+
+        sentence = document.get(1);
+        assertEquals("[Yes]", sentence.getTokens().toString());
+        assertNull(sentence.getNamedEntities());
+    }
+
+    @Test
+    public void testIterator() throws IOException {
+        try (DocumentReader reader = new DocumentReader(new StringReader(createJSON(5000)))) {
+            assertTrue(reader.hasNext());
+            assertEquals(0, reader.next().getID());
+            assertEquals(1, reader.next().getID());
+            assertEquals(4998, reader.stream().parallel().filter(s -> s.size() == 2).count());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        String json = createJSON(5000);
+
+        // a broken stream is distinguished from invalid data
+        Reader broken = new StringReader(json) {
+            private int reads = 0;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (++reads == 20) throw new IOException("connection reset");
+                return super.read(cbuf, off, Math.min(len, 100));
+            }
+        };
+
+        try (DocumentReader reader = new DocumentReader(broken)) {
+            reader.forEachRemaining(s -> {});
+            fail("the read error must be thrown");
+        } catch (UncheckedIOException e) {
+            assertEquals("connection reset", e.getCause().getMessage());
+        }
+
+        try (DocumentReader reader = new DocumentReader(json.replace("{\"sid\": 3,", "{\"sid\": x,"))) {
+            reader.forEachRemaining(s -> {});
+            fail("the invalid sentence must be thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private String createJSON(int size) {
+        StringBuilder build = new StringBuilder("{\"output\": [");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) build.append(",");
+            build.append("{\"sid\": ").append(i).append(", \"tok\": [\"a\", \"b\"]}");
+        }
+
+        return build.append("], \"pipeline\": \"tok\"}").toString();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalid() {
+        new Document("{\"output\": [{\"sid\": 0, \"tok\": [\"A\"], \"off\": [[0]]}]}");
+    }
+}
@@ -17,6 +17,9 @@
 package cloud.elit.sdk.structure;
 
 import static org.junit.Assert.assertEquals;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
 import org.junit.Test;
 
 public class DocumentTest {
@@ -49,4 +52,20 @@ public class DocumentTest {
         doc = new Document("{\"output\":"+s+"}");
         assertEquals(s, doc.toString());
     }
+
+    @Test
+    public void testEscape() throws IOException {
+        Sentence sentence = new Sentence(0, Arrays.asList("\"a\\b\"", "tab\there", "\u0001"));
+        Document doc = new Document();
+        doc.add(sentence);
+
+        StringWriter writer = new StringWriter();
+
+        try (DocumentWriter out = new DocumentWriter(writer)) {
+            out.writeOutput(doc.iterator());
+        }
+
+        assertEquals("{\"sid\":0,\"tok\":[\"\\\"a\\\\b\\\"\",\"tab\\there\",\"\\u0001\"]}", sentence.toString());
+        assertEquals(sentence.getTokens(), new Document(writer.toString()).get(0).getTokens());
+    }
 }
\ No newline at end of file
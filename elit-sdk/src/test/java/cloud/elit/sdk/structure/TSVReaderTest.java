@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+import cloud.elit.sdk.structure.node.NLPNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TSVReaderTest {
+    static private final String TSV =
+            "1\tEmory\temory\tNNP\t_\t2\tcompound\t_\tB-ORG\n" +
+            "2\tUniversity\tuniversity\tNNP\t_\t3\tnsbj\t_\tL-ORG\n" +
+            "3\tis\tbe\tVBZ\tnum=sg|tense=pres\t0\troot\t_\tO\n" +
+            "4\tin\tin\tIN\t_\t5\tcase\t_\tO\n" +
+            "5\tAtlanta\tatlanta\tNNP\t_\t3\tppmod\t0:x|2:loc\tU-GPE\n" +
+            "6\t.\t.\t.\t_\t3\tp\t_\tO\n" +
+            "\n" +
+            "1\tYes\tyes\tUH\t_\t0\troot\t_";
+
+    @Test
+    public void testRead() throws IOException {
+        Document document;
+
+        try (TSVReader reader = new TSVReader(new StringReader(TSV))) {
+            document = reader.read();
+        }
+
+        assertEquals(TSV, document.toTSV());
+        Sentence sentence = document.get(0);
+        NLPNode node = sentence.get(4);
+
+        assertSame(sentence.get(2), node.getParent());
+        assertEquals("[University, Atlanta, .]", sentence.get(2).getChildren().stream().map(NLPNode::getToken).collect(Collectors.toList()).toString());
+        assertSame(sentence.getRoot(), node.getSecondaryParents().get(0).getNode());
+        assertEquals("pres", sentence.get(2).getFeat("tense"));
+        assertEquals("[[0,2,\"ORG\"], [4,5,\"GPE\"]]", sentence.getNamedEntities().toString());
+        assertEquals(1, document.get(1).getID());
+        assertNull(document.get(1).getNamedEntities());
+    }
+
+    @Test
+    public void testParallel() throws IOException {
+        StringBuilder build = new StringBuilder();
+
+        for (int i = 0; i < 2000; i++)
+            build.append(TSV).append("\n\n");
+
+        List<Sentence> sentences;
+
+        try (TSVReader reader = new TSVReader(new StringReader(build.toString()))) {
+            sentences = reader.stream(true).collect(Collectors.toList());
+        }
+
+        assertEquals(4000, sentences.size());
+
+        for (int i = 0; i < sentences.size(); i++) {
+            assertEquals(i, sentences.get(i).getID());
+            assertEquals(i % 2 == 0 ? 6 : 1, sentences.get(i).size());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 Emory University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.elit.sdk.structure;
+
+import java.util.Arrays;
+import cloud.elit.sdk.structure.node.NLPNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TSVWriterTest {
+    @Test
+    public void testWrite() {
+        Sentence sentence = new Sentence(0, Arrays.asList("Emory", "University", "is", "in", "Atlanta", "."));
+        NLPNode root = sentence.getRoot();
+
+        for (int i = 0; i < sentence.size(); i++)
+            sentence.get(i).setParent(i == 2 ? root : sentence.get(2), i == 2 ? "root" : "dep");
+
+        sentence.get(0).setLemma("emory");
+        sentence.get(2).putFeat("tense", "pres");
+        sentence.get(2).putFeat("num", "sg");
+        sentence.get(4).addSecondaryParent(sentence.get(3), "pobj");
+        sentence.get(4).addSecondaryParent(root, "x");
+        sentence.addNamedEntity(new Chunk(sentence.getNodes().subList(0, 2), "ORG"));
+        sentence.addNamedEntity(new Chunk(sentence.getNodes().subList(4, 5), "GPE"));
+
+        String expected =
+                "1\tEmory\temory\t_\t_\t3\tdep\t_\tB-ORG\n" +
+                "2\tUniversity\t_\t_\t_\t3\tdep\t_\tL-ORG\n" +
+                "3\tis\t_\t_\tnum=sg|tense=pres\t0\troot\t_\tO\n" +
+                "4\tin\t_\t_\t_\t3\tdep\t_\tO\n" +
+                "5\tAtlanta\t_\t_\t_\t3\tdep\t0:x|4:pobj\tU-GPE\n" +
+                "6\t.\t_\t_\t_\t3\tdep\t_\tO";
+
+        assertEquals(expected, sentence.toTSV());
+        assertEquals("num=sg|tense=pres", sentence.get(2).toTSVFeatMap());
+
+        Document document = new Document();
+        document.add(sentence);
+        sentence.setNamedEntities(null);
+        document.add(sentence);
+
+        String rows = sentence.toTSV();
+        assertEquals(rows + "\n\n" + rows, document.toTSV());
+        assertEquals("1\tEmory\temory\t_\t_\t3\tdep\t_", rows.substring(0, rows.indexOf('\n')));
+    }
+}